@@ -0,0 +1,117 @@
+package com.nk.blog.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nk.blog.config.JacksonConfiguration;
+import com.nk.blog.dto.BlogPostDTO;
+import com.nk.blog.dto.BlogPostListDTO;
+import com.nk.blog.dto.WebResponse;
+import com.nk.blog.enums.BlogPostShortBy;
+import com.nk.blog.enums.BlogStatus;
+import com.nk.blog.enums.SortOrder;
+import com.nk.blog.model.BlogPost;
+import com.nk.blog.utils.BlogUtils;
+
+/**
+ * Entity to DTO mapping and JSON serialization of a list page, the work done
+ * for every post returned by the list endpoints. Run with -prof gc to get the
+ * allocation rate next to the throughput.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BlogPostMappingBenchmark {
+
+    @Param({ "1024", "65536", "1048576" })
+    private int contentSize;
+
+    @Param({ "10", "50" })
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+
+    private List<BlogPost> blogPosts;
+
+    private WebResponse<BlogPostListDTO> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new JacksonConfiguration().objectMapper();
+        blogPosts = new ArrayList<>(pageSize);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < pageSize; i++) {
+            blogPosts.add(BlogPost.builder()
+                    .id((long) i + 1)
+                    .title("Benchmark blog post title " + i)
+                    .description("A short description of the benchmark blog post, roughly the size of a real one " + i)
+                    .content(content(contentSize, i))
+                    .imageUrl("https://example.com/images/" + i + ".png")
+                    .status(BlogStatus.PUBLISHED)
+                    .createdBy(1L)
+                    .createdAt(now)
+                    .lastUpdatedBy(1L)
+                    .lastUpdatedAt(now)
+                    .build());
+        }
+        response = WebResponse.<BlogPostListDTO>builder()
+                .data(BlogPostListDTO.builder()
+                        .blogPostList(BlogUtils.blogPostListToDTO(blogPosts))
+                        .total(10_000L)
+                        .totalPages(10_000 / pageSize)
+                        .sortOrder(SortOrder.DESC)
+                        .sortBy(BlogPostShortBy.CREATED_AT)
+                        .build())
+                .build();
+    }
+
+    private static String content(int size, int seed) {
+        StringBuilder content = new StringBuilder(size);
+        String words = "lorem ipsum dolor sit amet \"quoted\" café consectetur adipiscing elit\n";
+        while (content.length() < size) {
+            content.append(words).append(seed);
+        }
+        content.setLength(size);
+        return content.toString();
+    }
+
+    @Benchmark
+    public BlogPostDTO blogPostToDTO() {
+        return BlogUtils.blogPostToDTO(blogPosts.get(0));
+    }
+
+    @Benchmark
+    public List<BlogPostDTO> blogPostListToDTO() {
+        return BlogUtils.blogPostListToDTO(blogPosts);
+    }
+
+    @Benchmark
+    public void serializeListResponse() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), response);
+    }
+
+    @Benchmark
+    public byte[] serializeListResponseToBytes() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
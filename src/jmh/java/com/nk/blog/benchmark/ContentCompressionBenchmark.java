@@ -0,0 +1,101 @@
+package com.nk.blog.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nk.blog.enums.ContentCodec;
+import com.nk.blog.repo.BlogContentCodec;
+
+/**
+ * Write (encode) and read (decode) cost of the content codecs. Each benchmark
+ * also reports the content bytes and stored bytes it went through per second as
+ * the rawBytes and storedBytes secondary results, 1 - storedBytes / rawBytes is
+ * the share of the content the codec saves.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentCompressionBenchmark {
+
+    private static final String[] WORDS = { "the", "blog", "service", "post", "content", "spring", "query",
+            "database", "index", "cache", "latency", "request", "response", "thread", "page", "java", "compress",
+            "read", "write", "and", "of", "to", "in", "a", "is", "that", "for", "with", "as", "on" };
+
+    @Param({ "NONE", "DEFLATE", "GZIP" })
+    private ContentCodec codec;
+
+    @Param({ "1024", "65536", "1048576" })
+    private int contentSize;
+
+    private BlogContentCodec blogContentCodec;
+
+    private String content;
+
+    private byte[] stored;
+
+    @Setup
+    public void setUp() {
+        blogContentCodec = new BlogContentCodec(codec, 0);
+        content = prose(contentSize);
+        stored = blogContentCodec.encode(content);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes {
+
+        public long rawBytes;
+
+        public long storedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rawBytes = 0;
+            storedBytes = 0;
+        }
+    }
+
+    private static String prose(int size) {
+        Random random = new Random(42);
+        StringBuilder prose = new StringBuilder(size + 16);
+        while (prose.length() < size) {
+            prose.append(WORDS[random.nextInt(WORDS.length)]);
+            prose.append(random.nextInt(12) == 0 ? ".\n" : " ");
+        }
+        prose.setLength(size);
+        return prose.toString();
+    }
+
+    @Benchmark
+    public byte[] encode(Bytes bytes) {
+        byte[] encoded = blogContentCodec.encode(content);
+        bytes.rawBytes += contentSize;
+        bytes.storedBytes += encoded.length;
+        return encoded;
+    }
+
+    @Benchmark
+    public String decode(Bytes bytes) {
+        String decoded = blogContentCodec.decode(stored);
+        bytes.rawBytes += contentSize;
+        bytes.storedBytes += stored.length;
+        return decoded;
+    }
+}
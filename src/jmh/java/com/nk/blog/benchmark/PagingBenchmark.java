@@ -0,0 +1,54 @@
+package com.nk.blog.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Pageable;
+
+import com.nk.blog.constants.PostConstents;
+import com.nk.blog.enums.BlogPostShortBy;
+import com.nk.blog.enums.SortOrder;
+import com.nk.blog.utils.Util;
+
+/**
+ * Page request parsing done by every offset paged list request.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PagingBenchmark {
+
+    @Param({ "10", "100" })
+    private int pageSize;
+
+    private final String sortBy = BlogPostShortBy.CREATED_AT.getOrderBy();
+
+    @Benchmark
+    public Pageable getPageableSorted() {
+        Util.PagePageSizeRecord result = Util.getResult(3, pageSize);
+        return Util.getPageable(result.page(), result.pageSize(), SortOrder.DESC.name(), sortBy);
+    }
+
+    @Benchmark
+    public Pageable getPageableUnsorted() {
+        Util.PagePageSizeRecord result = Util.getResult(3, pageSize);
+        return Util.getPageable(result.page(), result.pageSize(), PostConstents.NO_SORT, PostConstents.NO_SORT);
+    }
+
+    @Benchmark
+    public Util.PagePageSizeRecord getResultDefaults() {
+        return Util.getResult(null, null);
+    }
+}
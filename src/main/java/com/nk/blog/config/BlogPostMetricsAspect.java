@@ -0,0 +1,99 @@
+package com.nk.blog.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import com.nk.blog.enums.BlogPostShortBy;
+import com.nk.blog.exception.BadRequestException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Times every call to the blog post services (BlogPostService,
+ * BlogPostTransferService) and repositories (BlogPostRepo, BlogPostCountRepo,
+ * BlogPostViewRepo, BlogPostPurgeRepo). Both timers are tagged with the type,
+ * the operation, the sort field and the outcome, so a slow list request can be
+ * split into the page query, the count lookup and the mapping done by the
+ * service. Outcomes are {@code success}, the simple name of one of our own
+ * exceptions handled by TaskControllerAdvice, or {@code unexpected}.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class BlogPostMetricsAspect {
+
+  public static final String SERVICE_TIMER = "blog.service";
+
+  public static final String REPOSITORY_TIMER = "blog.repository";
+
+  static final String NONE = "none";
+
+  static final String SUCCESS = "success";
+
+  static final String UNEXPECTED = "unexpected";
+
+  private static final String HANDLED_EXCEPTION_PACKAGE = BadRequestException.class.getPackageName();
+
+  private final MeterRegistry meterRegistry;
+
+  @Around("execution(* com.nk.blog.service.BlogPostService.*(..))"
+      + " || execution(* com.nk.blog.service.BlogPostTransferService.*(..))")
+  public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+    return time(SERVICE_TIMER, "Time taken by blog post service operations", joinPoint);
+  }
+
+  @Around("execution(* com.nk.blog.repo.BlogPostRepo.*(..))"
+      + " || execution(* com.nk.blog.repo.BlogPostCountRepo.*(..))"
+      + " || execution(* com.nk.blog.repo.BlogPostViewRepo.*(..))"
+      + " || execution(* com.nk.blog.repo.BlogPostPurgeRepo.*(..))")
+  public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+    return time(REPOSITORY_TIMER, "Time taken by blog post repository calls", joinPoint);
+  }
+
+  private Object time(String name, String description, ProceedingJoinPoint joinPoint) throws Throwable {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = SUCCESS;
+    try {
+      return joinPoint.proceed();
+    } catch (Throwable e) {
+      outcome = outcome(e);
+      throw e;
+    } finally {
+      sample.stop(Timer.builder(name)
+          .description(description)
+          .tags(Tags.of("type", joinPoint.getSignature().getDeclaringType().getSimpleName(),
+              "operation", joinPoint.getSignature().getName(),
+              "sort_by", sortBy(joinPoint.getArgs()),
+              "outcome", outcome))
+          .publishPercentileHistogram()
+          .register(meterRegistry));
+    }
+  }
+
+  static String outcome(Throwable e) {
+    return HANDLED_EXCEPTION_PACKAGE.equals(e.getClass().getPackageName()) ? e.getClass().getSimpleName() : UNEXPECTED;
+  }
+
+  static String sortBy(Object[] args) {
+    for (Object arg : args) {
+      if (arg instanceof BlogPostShortBy sortBy) {
+        return sortBy.getOrderBy();
+      }
+      if (arg instanceof Pageable pageable) {
+        return sortBy(pageable.getSort());
+      }
+    }
+    return NONE;
+  }
+
+  private static String sortBy(Sort sort) {
+    return sort.stream().findFirst().map(Sort.Order::getProperty).orElse(NONE);
+  }
+}
@@ -0,0 +1,74 @@
+package com.nk.blog.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.nk.blog.dto.BlogPostSummaryDTO;
+
+/**
+ * Enables the caffeine backed cache configured through spring.cache.* properties.
+ * Hit, miss and eviction statistics are published by actuator as cache.* metrics.
+ *
+ * Puts and evictions made inside a transaction are applied once it commits, so
+ * a rolled back write never reaches the cache and other transactions do not see
+ * the new state before it is committed. Puts are not checked against the
+ * version, a reader that loaded a post before an update committed may still put
+ * the old state after the update evicted it, and that entry stays until it
+ * expires (spring.cache.caffeine.spec) or the post is written again. Cached
+ * posts are copied on the way in and out, a caller changing the DTO it got
+ * never changes the cached one.
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+  @Bean
+  public CacheManager cacheManager(CacheProperties cacheProperties) {
+    CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+      @Override
+      protected Cache adaptCaffeineCache(String name,
+          com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        return new CopyingCaffeineCache(name, cache, isAllowNullValues());
+      }
+    };
+    if (null != cacheProperties.getCaffeine().getSpec()) {
+      cacheManager.setCacheSpecification(cacheProperties.getCaffeine().getSpec());
+    }
+    cacheManager.setCacheNames(cacheProperties.getCacheNames());
+    return new TransactionAwareCacheManagerProxy(cacheManager);
+  }
+
+  /*
+   * Still a CaffeineCache, so actuator keeps publishing its statistics.
+   */
+  static class CopyingCaffeineCache extends CaffeineCache {
+
+    CopyingCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+        boolean allowNullValues) {
+      super(name, cache, allowNullValues);
+    }
+
+    @Override
+    protected Object toStoreValue(Object userValue) {
+      return super.toStoreValue(copy(userValue));
+    }
+
+    @Override
+    protected Object fromStoreValue(Object storeValue) {
+      return copy(super.fromStoreValue(storeValue));
+    }
+
+    private static Object copy(Object value) {
+      return value instanceof BlogPostSummaryDTO dto ? dto.toBuilder().build() : value;
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package com.nk.blog.config;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseCookie;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Gives a client read-your-writes consistency on top of replica routing. Every
+ * write hands the client a short lived cookie, and while the client sends it
+ * back its requests read from the primary. Clients that drop cookies read from
+ * the replica right away and may miss their own write for the replica lag.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+  public static final String COOKIE_NAME = "blog_read_primary";
+
+  private static final Set<String> WRITE_METHODS = Set.of(HttpMethod.POST.name(), HttpMethod.PUT.name(),
+      HttpMethod.PATCH.name(), HttpMethod.DELETE.name());
+
+  private final Duration window;
+
+  public ReadYourWritesFilter(Duration window) {
+    this.window = window;
+  }
+
+  @Override
+  protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain) throws ServletException, IOException {
+    if (WRITE_METHODS.contains(request.getMethod())) {
+      // set before the chain runs, the response may be committed by the time it returns
+      response.addHeader("Set-Cookie", ResponseCookie.from(COOKIE_NAME, "1")
+          .path("/")
+          .maxAge(window)
+          .httpOnly(true)
+          .build()
+          .toString());
+    }
+    if (null == WebUtils.getCookie(request, COOKIE_NAME)) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    ReplicaRoutingDataSource.pinToPrimary();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      ReplicaRoutingDataSource.unpin();
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package com.nk.blog.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Splits database traffic between the primary from spring.datasource.* and a
+ * replica from blog.datasource.replica.*, only when a replica url is set.
+ * Read-only transactions, i.e. the list and get methods of the service, go to
+ * the replica and everything else, Flyway included, to the primary. Without a
+ * replica the single auto-configured data source is used as before.
+ */
+@Configuration
+@ConditionalOnProperty(name = "blog.datasource.replica.jdbc-url")
+public class ReplicaDataSourceConfig {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+  }
+
+  @Bean
+  @ConfigurationProperties("blog.datasource.replica")
+  public HikariDataSource replicaDataSource() {
+    HikariDataSource replica = new HikariDataSource();
+    replica.setPoolName("replica");
+    return replica;
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+      @Qualifier("replicaDataSource") DataSource replica) {
+    return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica));
+  }
+
+  @Bean
+  public ReadYourWritesFilter readYourWritesFilter(
+      @Value("${blog.datasource.read-your-writes-window:5s}") Duration window) {
+    return new ReadYourWritesFilter(window);
+  }
+}
@@ -0,0 +1,15 @@
+package com.nk.blog.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs such as the post count reconciliation.
+ * The scheduler pool is sized by spring.task.scheduling.pool.size to one
+ * thread per job, because the purge runs for minutes and would otherwise delay
+ * the view flush and the change stream heartbeat.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
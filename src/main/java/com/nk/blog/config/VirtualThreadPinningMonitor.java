@@ -0,0 +1,91 @@
+package com.nk.blog.config;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Logs virtual threads that stay pinned to their carrier thread, e.g. while
+ * blocking inside a synchronized block or a native frame. Pinned threads hold a
+ * carrier for the whole blocking call and quietly bring back the platform
+ * thread limit, so the monitor only runs in virtual thread mode.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+  private static final int MAX_LOGGED_FRAMES = 12;
+
+  private final Duration threshold;
+
+  private final LongAdder pinnedEvents = new LongAdder();
+
+  private RecordingStream recordingStream;
+
+  public VirtualThreadPinningMonitor(
+      @Value("${blog.virtual-threads.pinned-threshold:20ms}") Duration threshold) {
+    this.threshold = threshold;
+  }
+
+  @Override
+  public synchronized void start() {
+    if (null != recordingStream) {
+      return;
+    }
+    recordingStream = new RecordingStream();
+    recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+    recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+    recordingStream.startAsync();
+    log.info("Monitoring virtual threads pinned for longer than {}", threshold);
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (null != recordingStream) {
+      recordingStream.close();
+      recordingStream = null;
+    }
+  }
+
+  @Override
+  public synchronized boolean isRunning() {
+    return null != recordingStream;
+  }
+
+  /**
+   * @return number of pinned events seen since start
+   */
+  public long getPinnedEvents() {
+    return pinnedEvents.sum();
+  }
+
+  private void onPinned(RecordedEvent event) {
+    pinnedEvents.increment();
+    log.warn("Virtual thread pinned its carrier for {} ms at{}", event.getDuration().toMillis(),
+        formatStackTrace(event.getStackTrace()));
+  }
+
+  private static String formatStackTrace(RecordedStackTrace stackTrace) {
+    if (null == stackTrace) {
+      return " unknown location";
+    }
+    return stackTrace.getFrames().stream()
+        .limit(MAX_LOGGED_FRAMES)
+        .map(frame -> "\n\t" + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+            + ":" + frame.getLineNumber())
+        .collect(Collectors.joining());
+  }
+}
@@ -28,4 +28,38 @@ public abstract class PostConstents {
     public static final String SORT_BY = "sort_by";
 
     public static final String NO_SORT = "NONE";
+
+    public static final String CURSOR = "cursor";
+
+    public static final String VIEW = "view";
+
+    public static final String STATUS = "status";
+
+    public static final String CREATED_BY = "created_by";
+
+    public static final String CREATED_FROM = "created_from";
+
+    public static final String CREATED_TO = "created_to";
+
+    public static final String UPDATED_FROM = "updated_from";
+
+    public static final String UPDATED_TO = "updated_to";
+
+    public static final String DEFAULT_VIEW = "FULL";
+
+    public static final String SEARCH_QUERY = "q";
+
+    public static final String GZIP = "gzip";
+
+    public static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    public static final String BLOG_POST_BY_ID_CACHE = "blogPostById";
+
+    public static final Integer MAX_BULK_SIZE = 5000;
+
+    public static final Integer TITLE_LOOKUP_CHUNK_SIZE = 1000;
+
+    public static final Integer MAX_TITLE_LENGTH = 255;
+
+    public static final Integer MAX_DESCRIPTION_LENGTH = 500;
 }
@@ -1,6 +1,12 @@
 package com.nk.blog.controller;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,18 +14,30 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.nk.blog.constants.DateConstants;
 import com.nk.blog.constants.PostConstents;
+import com.nk.blog.dto.BlogPostBulkResultDTO;
 import com.nk.blog.dto.BlogPostDTO;
+import com.nk.blog.dto.BlogPostFilter;
 import com.nk.blog.dto.BlogPostListDTO;
 import com.nk.blog.dto.BlogPostRequest;
 import com.nk.blog.dto.WebResponse;
 import com.nk.blog.enums.BlogPostShortBy;
+import com.nk.blog.enums.BlogPostView;
+import com.nk.blog.enums.BlogStatus;
 import com.nk.blog.enums.SortOrder;
 import com.nk.blog.service.BlogPostService;
+import com.nk.blog.service.impl.BlogPostBodyCache;
+import com.nk.blog.service.impl.BlogPostChangeStream;
+import com.nk.blog.service.impl.BlogPostViewCounter;
+import com.nk.blog.utils.BlogUtils;
+import com.nk.blog.utils.Util;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -33,6 +51,12 @@ public class BlogPostController {
 
     private final BlogPostService blogService;
 
+    private final BlogPostBodyCache blogPostBodyCache;
+
+    private final BlogPostViewCounter blogPostViewCounter;
+
+    private final BlogPostChangeStream blogPostChangeStream;
+
     @Operation(summary = "create blog post", description = "create blog post", tags = { "Blog Post" })
     @PostMapping
     public ResponseEntity<WebResponse<BlogPostDTO>> createBlog(@RequestBody BlogPostRequest blog) {
@@ -41,19 +65,49 @@ public class BlogPostController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    @Operation(summary = "bulk create blog posts", description = "create many blog posts at once, returns the result of each item", tags = { "Blog Post" })
+    @PostMapping("/bulk")
+    public ResponseEntity<WebResponse<BlogPostBulkResultDTO>> bulkCreateBlogs(@RequestBody List<BlogPostRequest> blogs) {
+        BlogPostBulkResultDTO result = blogService.bulkCreateBlogs(blogs);
+        WebResponse<BlogPostBulkResultDTO> response = WebResponse.<BlogPostBulkResultDTO>builder().data(result).build();
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     @Operation(summary = "get all blog posts", description = "get all blog posts", tags = { "Blog Post" })
     @Parameter(name = PostConstents.PAGE, description = "page number", in = ParameterIn.QUERY)
     @Parameter(name = PostConstents.PAGE_SIZE, description = "number of elements per page", in = ParameterIn.QUERY)
     @Parameter(name = PostConstents.SORT_ORDER, description = "Order to sort in", in = ParameterIn.QUERY, example = PostConstents.DEFAULT_SORT_ORDER)
     @Parameter(name = PostConstents.SORT_BY, description = "value to sort by", in = ParameterIn.QUERY, example = PostConstents.DEFAULT_SORT_CREATED)
+    @Parameter(name = PostConstents.VIEW, description = "FULL or SUMMARY, summary leaves out the blog content", in = ParameterIn.QUERY, example = PostConstents.DEFAULT_VIEW)
+    @Parameter(name = PostConstents.STATUS, description = "only posts in this status", in = ParameterIn.QUERY)
+    @Parameter(name = PostConstents.CREATED_BY, description = "only posts of this author", in = ParameterIn.QUERY)
+    @Parameter(name = PostConstents.CREATED_FROM, description = "only posts created at or after, yyyy-MM-dd HH:mm:ss", in = ParameterIn.QUERY)
+    @Parameter(name = PostConstents.CREATED_TO, description = "only posts created before, yyyy-MM-dd HH:mm:ss", in = ParameterIn.QUERY)
+    @Parameter(name = PostConstents.UPDATED_FROM, description = "only posts updated at or after, yyyy-MM-dd HH:mm:ss", in = ParameterIn.QUERY)
+    @Parameter(name = PostConstents.UPDATED_TO, description = "only posts updated before, yyyy-MM-dd HH:mm:ss", in = ParameterIn.QUERY)
     @GetMapping
     public ResponseEntity<WebResponse<BlogPostListDTO>> getAllBlogs(
             @RequestParam(value = PostConstents.PAGE, required = false) Integer page,
             @RequestParam(value = PostConstents.PAGE_SIZE, required = false) Integer pageSize,
             @RequestParam(value = PostConstents.SORT_ORDER, defaultValue = PostConstents.DEFAULT_SORT_ORDER) SortOrder sort,
-            @RequestParam(value = PostConstents.SORT_BY, defaultValue = PostConstents.DEFAULT_SORT_CREATED ) BlogPostShortBy sortBy
+            @RequestParam(value = PostConstents.SORT_BY, defaultValue = PostConstents.DEFAULT_SORT_CREATED ) BlogPostShortBy sortBy,
+            @RequestParam(value = PostConstents.VIEW, defaultValue = PostConstents.DEFAULT_VIEW) BlogPostView view,
+            @RequestParam(value = PostConstents.STATUS, required = false) BlogStatus status,
+            @RequestParam(value = PostConstents.CREATED_BY, required = false) Long createdBy,
+            @RequestParam(value = PostConstents.CREATED_FROM, required = false) @DateTimeFormat(pattern = DateConstants.DATE_TIME_FORMAT) LocalDateTime createdFrom,
+            @RequestParam(value = PostConstents.CREATED_TO, required = false) @DateTimeFormat(pattern = DateConstants.DATE_TIME_FORMAT) LocalDateTime createdTo,
+            @RequestParam(value = PostConstents.UPDATED_FROM, required = false) @DateTimeFormat(pattern = DateConstants.DATE_TIME_FORMAT) LocalDateTime updatedFrom,
+            @RequestParam(value = PostConstents.UPDATED_TO, required = false) @DateTimeFormat(pattern = DateConstants.DATE_TIME_FORMAT) LocalDateTime updatedTo
     ) {
-        BlogPostListDTO blogs = blogService.getAllBlogs(page, pageSize, sort, sortBy);
+        BlogPostFilter filter = BlogPostFilter.builder()
+                .status(status)
+                .createdBy(createdBy)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .updatedFrom(updatedFrom)
+                .updatedTo(updatedTo)
+                .build();
+        BlogPostListDTO blogs = blogService.getAllBlogs(page, pageSize, sort, sortBy, view, filter);
         WebResponse<BlogPostListDTO> response = WebResponse.<BlogPostListDTO>builder().data(blogs).build();
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
@@ -64,34 +118,193 @@ public class BlogPostController {
     @Parameter(name = PostConstents.PAGE_SIZE, description = "number of elements per page", in = ParameterIn.QUERY)
     @Parameter(name = PostConstents.SORT_ORDER, description = "Order to sort in", in = ParameterIn.QUERY, example = PostConstents.DEFAULT_SORT_ORDER)
     @Parameter(name = PostConstents.SORT_BY, description = "value to sort by", in = ParameterIn.QUERY, example = PostConstents.DEFAULT_SORT_CREATED)
+    @Parameter(name = PostConstents.VIEW, description = "FULL or SUMMARY, summary leaves out the blog content", in = ParameterIn.QUERY, example = PostConstents.DEFAULT_VIEW)
+    @Parameter(name = PostConstents.STATUS, description = "only posts in this status", in = ParameterIn.QUERY)
+    @Parameter(name = PostConstents.CREATED_FROM, description = "only posts created at or after, yyyy-MM-dd HH:mm:ss", in = ParameterIn.QUERY)
+    @Parameter(name = PostConstents.CREATED_TO, description = "only posts created before, yyyy-MM-dd HH:mm:ss", in = ParameterIn.QUERY)
+    @Parameter(name = PostConstents.UPDATED_FROM, description = "only posts updated at or after, yyyy-MM-dd HH:mm:ss", in = ParameterIn.QUERY)
+    @Parameter(name = PostConstents.UPDATED_TO, description = "only posts updated before, yyyy-MM-dd HH:mm:ss", in = ParameterIn.QUERY)
     @GetMapping("/user")
     public ResponseEntity<WebResponse<BlogPostListDTO>> getAllBlogsCurrentUser(
             @RequestParam(value = PostConstents.PAGE, required = false) Integer page,
             @RequestParam(value = PostConstents.PAGE_SIZE, required = false) Integer pageSize,
             @RequestParam(value = PostConstents.SORT_ORDER, defaultValue = PostConstents.DEFAULT_SORT_ORDER) SortOrder sort,
+            @RequestParam(value = PostConstents.SORT_BY, defaultValue = PostConstents.DEFAULT_SORT_CREATED ) BlogPostShortBy sortBy,
+            @RequestParam(value = PostConstents.VIEW, defaultValue = PostConstents.DEFAULT_VIEW) BlogPostView view,
+            @RequestParam(value = PostConstents.STATUS, required = false) BlogStatus status,
+            @RequestParam(value = PostConstents.CREATED_FROM, required = false) @DateTimeFormat(pattern = DateConstants.DATE_TIME_FORMAT) LocalDateTime createdFrom,
+            @RequestParam(value = PostConstents.CREATED_TO, required = false) @DateTimeFormat(pattern = DateConstants.DATE_TIME_FORMAT) LocalDateTime createdTo,
+            @RequestParam(value = PostConstents.UPDATED_FROM, required = false) @DateTimeFormat(pattern = DateConstants.DATE_TIME_FORMAT) LocalDateTime updatedFrom,
+            @RequestParam(value = PostConstents.UPDATED_TO, required = false) @DateTimeFormat(pattern = DateConstants.DATE_TIME_FORMAT) LocalDateTime updatedTo
+    ) {
+        BlogPostFilter filter = BlogPostFilter.builder()
+                .status(status)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .updatedFrom(updatedFrom)
+                .updatedTo(updatedTo)
+                .build();
+        BlogPostListDTO blogs = blogService.getAllBlogsCurrentUser(page, pageSize, sort, sortBy, view, filter);
+        WebResponse<BlogPostListDTO> response = WebResponse.<BlogPostListDTO>builder().data(blogs).build();
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @Operation(summary = "get all blog posts by slice", description = "get a page of blog posts with has_next instead of totals, no count query is run", tags = { "Blog Post" })
+    @Parameter(name = PostConstents.PAGE, description = "page number", in = ParameterIn.QUERY)
+    @Parameter(name = PostConstents.PAGE_SIZE, description = "number of elements per page", in = ParameterIn.QUERY)
+    @Parameter(name = PostConstents.SORT_ORDER, description = "Order to sort in", in = ParameterIn.QUERY, example = PostConstents.DEFAULT_SORT_ORDER)
+    @Parameter(name = PostConstents.SORT_BY, description = "value to sort by", in = ParameterIn.QUERY, example = PostConstents.DEFAULT_SORT_CREATED)
+    @Parameter(name = PostConstents.VIEW, description = "FULL or SUMMARY, summary leaves out the blog content", in = ParameterIn.QUERY, example = PostConstents.DEFAULT_VIEW)
+    @GetMapping("/slice")
+    public ResponseEntity<WebResponse<BlogPostListDTO>> getAllBlogsBySlice(
+            @RequestParam(value = PostConstents.PAGE, required = false) Integer page,
+            @RequestParam(value = PostConstents.PAGE_SIZE, required = false) Integer pageSize,
+            @RequestParam(value = PostConstents.SORT_ORDER, defaultValue = PostConstents.DEFAULT_SORT_ORDER) SortOrder sort,
+            @RequestParam(value = PostConstents.SORT_BY, defaultValue = PostConstents.DEFAULT_SORT_CREATED ) BlogPostShortBy sortBy,
+            @RequestParam(value = PostConstents.VIEW, defaultValue = PostConstents.DEFAULT_VIEW) BlogPostView view
+    ) {
+        BlogPostListDTO blogs = blogService.getAllBlogsBySlice(page, pageSize, sort, sortBy, view);
+        WebResponse<BlogPostListDTO> response = WebResponse.<BlogPostListDTO>builder().data(blogs).build();
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @Operation(summary = "get all blog posts for current user by slice", description = "get a page of blog posts for current user with has_next instead of totals", tags = { "Blog Post" })
+    @Parameter(name = PostConstents.PAGE, description = "page number", in = ParameterIn.QUERY)
+    @Parameter(name = PostConstents.PAGE_SIZE, description = "number of elements per page", in = ParameterIn.QUERY)
+    @Parameter(name = PostConstents.SORT_ORDER, description = "Order to sort in", in = ParameterIn.QUERY, example = PostConstents.DEFAULT_SORT_ORDER)
+    @Parameter(name = PostConstents.SORT_BY, description = "value to sort by", in = ParameterIn.QUERY, example = PostConstents.DEFAULT_SORT_CREATED)
+    @Parameter(name = PostConstents.VIEW, description = "FULL or SUMMARY, summary leaves out the blog content", in = ParameterIn.QUERY, example = PostConstents.DEFAULT_VIEW)
+    @GetMapping("/user/slice")
+    public ResponseEntity<WebResponse<BlogPostListDTO>> getAllBlogsCurrentUserBySlice(
+            @RequestParam(value = PostConstents.PAGE, required = false) Integer page,
+            @RequestParam(value = PostConstents.PAGE_SIZE, required = false) Integer pageSize,
+            @RequestParam(value = PostConstents.SORT_ORDER, defaultValue = PostConstents.DEFAULT_SORT_ORDER) SortOrder sort,
+            @RequestParam(value = PostConstents.SORT_BY, defaultValue = PostConstents.DEFAULT_SORT_CREATED ) BlogPostShortBy sortBy,
+            @RequestParam(value = PostConstents.VIEW, defaultValue = PostConstents.DEFAULT_VIEW) BlogPostView view
+    ) {
+        BlogPostListDTO blogs = blogService.getAllBlogsCurrentUserBySlice(page, pageSize, sort, sortBy, view);
+        WebResponse<BlogPostListDTO> response = WebResponse.<BlogPostListDTO>builder().data(blogs).build();
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @Operation(summary = "get all blog posts by cursor", description = "get all blog posts using keyset pagination, pass next_cursor of the previous page to continue", tags = { "Blog Post" })
+    @Parameter(name = PostConstents.CURSOR, description = "continuation token from the previous page", in = ParameterIn.QUERY)
+    @Parameter(name = PostConstents.PAGE_SIZE, description = "number of elements per page", in = ParameterIn.QUERY)
+    @Parameter(name = PostConstents.SORT_ORDER, description = "Order to sort in", in = ParameterIn.QUERY, example = PostConstents.DEFAULT_SORT_ORDER)
+    @Parameter(name = PostConstents.SORT_BY, description = "value to sort by", in = ParameterIn.QUERY, example = PostConstents.DEFAULT_SORT_CREATED)
+    @GetMapping("/seek")
+    public ResponseEntity<WebResponse<BlogPostListDTO>> getAllBlogsByCursor(
+            @RequestParam(value = PostConstents.CURSOR, required = false) String cursor,
+            @RequestParam(value = PostConstents.PAGE_SIZE, required = false) Integer pageSize,
+            @RequestParam(value = PostConstents.SORT_ORDER, defaultValue = PostConstents.DEFAULT_SORT_ORDER) SortOrder sort,
             @RequestParam(value = PostConstents.SORT_BY, defaultValue = PostConstents.DEFAULT_SORT_CREATED ) BlogPostShortBy sortBy
     ) {
-        BlogPostListDTO blogs = blogService.getAllBlogsCurrentUser(page, pageSize, sort, sortBy);
+        BlogPostListDTO blogs = blogService.getAllBlogsByCursor(cursor, pageSize, sort, sortBy);
         WebResponse<BlogPostListDTO> response = WebResponse.<BlogPostListDTO>builder().data(blogs).build();
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
-    @Operation(summary = "get blog post by id", description = "get blog post by id", tags = { "Blog Post" })
+    @Operation(summary = "get all blog posts for current user by cursor", description = "get all blog posts for current user using keyset pagination", tags = { "Blog Post" })
+    @Parameter(name = PostConstents.CURSOR, description = "continuation token from the previous page", in = ParameterIn.QUERY)
+    @Parameter(name = PostConstents.PAGE_SIZE, description = "number of elements per page", in = ParameterIn.QUERY)
+    @Parameter(name = PostConstents.SORT_ORDER, description = "Order to sort in", in = ParameterIn.QUERY, example = PostConstents.DEFAULT_SORT_ORDER)
+    @Parameter(name = PostConstents.SORT_BY, description = "value to sort by", in = ParameterIn.QUERY, example = PostConstents.DEFAULT_SORT_CREATED)
+    @GetMapping("/user/seek")
+    public ResponseEntity<WebResponse<BlogPostListDTO>> getAllBlogsCurrentUserByCursor(
+            @RequestParam(value = PostConstents.CURSOR, required = false) String cursor,
+            @RequestParam(value = PostConstents.PAGE_SIZE, required = false) Integer pageSize,
+            @RequestParam(value = PostConstents.SORT_ORDER, defaultValue = PostConstents.DEFAULT_SORT_ORDER) SortOrder sort,
+            @RequestParam(value = PostConstents.SORT_BY, defaultValue = PostConstents.DEFAULT_SORT_CREATED ) BlogPostShortBy sortBy
+    ) {
+        BlogPostListDTO blogs = blogService.getAllBlogsCurrentUserByCursor(cursor, pageSize, sort, sortBy);
+        WebResponse<BlogPostListDTO> response = WebResponse.<BlogPostListDTO>builder().data(blogs).build();
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @Operation(summary = "search blog posts", description = "full text search over title, description and content ranked by relevance", tags = { "Blog Post" })
+    @Parameter(name = PostConstents.SEARCH_QUERY, description = "search text", in = ParameterIn.QUERY, required = true)
+    @Parameter(name = PostConstents.PAGE, description = "page number", in = ParameterIn.QUERY)
+    @Parameter(name = PostConstents.PAGE_SIZE, description = "number of elements per page", in = ParameterIn.QUERY)
+    @GetMapping("/search")
+    public ResponseEntity<WebResponse<BlogPostListDTO>> searchBlogs(
+            @RequestParam(value = PostConstents.SEARCH_QUERY) String query,
+            @RequestParam(value = PostConstents.PAGE, required = false) Integer page,
+            @RequestParam(value = PostConstents.PAGE_SIZE, required = false) Integer pageSize
+    ) {
+        BlogPostListDTO blogs = blogService.searchBlogs(query, page, pageSize);
+        WebResponse<BlogPostListDTO> response = WebResponse.<BlogPostListDTO>builder().data(blogs).build();
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @Operation(summary = "stream blog post changes", description = "Server-Sent Events of created, updated and deleted posts, send Last-Event-ID to resume, a RESET event means the missed changes are gone and the list has to be reloaded", tags = { "Blog Post" })
+    @Parameter(name = PostConstents.LAST_EVENT_ID, description = "id of the last event received before reconnecting", in = ParameterIn.HEADER)
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestHeader(value = PostConstents.LAST_EVENT_ID, required = false) String lastEventId) {
+        return blogPostChangeStream.subscribe(lastEventId);
+    }
+
+    @Operation(summary = "get blog post by id", description = "get blog post by id, served from pre-encoded bodies for hot posts", tags = { "Blog Post" })
     @Parameter(name = "id", description = "blog post id", in = ParameterIn.PATH)
-    @GetMapping("/{id}")
-    public ResponseEntity<WebResponse<BlogPostDTO>> getBlogById(@PathVariable Long id) {
+    @Parameter(name = HttpHeaders.IF_NONE_MATCH, description = "ETag of the cached copy, 304 is returned when it is still current", in = ParameterIn.HEADER)
+    @Parameter(name = HttpHeaders.ACCEPT_ENCODING, description = "gzip to receive a gzip encoded body", in = ParameterIn.HEADER)
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getBlogById(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (null != ifNoneMatch) {
+            // the version comes from the post cache, or from its column on a miss, the content is never read for a 304
+            String eTag = BlogUtils.getETag(id, blogService.getBlogVersion(id));
+            String gzipETag = BlogUtils.getGzipETag(eTag);
+            // the gzip body has its own ETag, a copy of either encoding is current
+            String matched = Util.eTagMatches(ifNoneMatch, gzipETag) ? gzipETag
+                    : Util.eTagMatches(ifNoneMatch, eTag) ? eTag : null;
+            if (null != matched) {
+                blogPostViewCounter.record(id);
+                // same Vary as the 200, the ETag differs per encoding
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                        .eTag(matched)
+                        .build();
+            }
+        }
+        // a hot post comes from the post cache, the database is only read on a miss
         BlogPostDTO blog = blogService.getBlogById(id);
-        WebResponse<BlogPostDTO> response = WebResponse.<BlogPostDTO>builder().data(blog).build();
+        String eTag = BlogUtils.getETag(blog.getId(), blog.getVersion());
+        String gzipETag = BlogUtils.getGzipETag(eTag);
+        blogPostViewCounter.record(id);
+        BlogPostBodyCache.EncodedBody body = blogPostBodyCache.get(eTag);
+        if (null == body) {
+            body = blogPostBodyCache.put(eTag, WebResponse.<BlogPostDTO>builder().data(blog).build());
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (null != body.gzip() && Util.acceptsEncoding(acceptEncoding, PostConstents.GZIP)) {
+            return builder.eTag(gzipETag).header(HttpHeaders.CONTENT_ENCODING, PostConstents.GZIP).body(body.gzip());
+        }
+        return builder.eTag(eTag).body(body.identity());
+    }
+
+    @Operation(summary = "get blog post view count", description = "views of the post, kept out of the post body so its ETag stays valid, may trail by a few seconds", tags = { "Blog Post" })
+    @Parameter(name = "id", description = "blog post id", in = ParameterIn.PATH)
+    @GetMapping("/{id}/views")
+    public ResponseEntity<WebResponse<Long>> getBlogViewCount(@PathVariable Long id) {
+        WebResponse<Long> response = WebResponse.<Long>builder().data(blogPostViewCounter.getViewCount(id)).build();
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
-    @Operation(summary = "update blog post", description = "update blog post", tags = { "Blog Post" })
+    @Operation(summary = "update blog post", description = "update blog post, 412 when If-Match no longer matches the stored post", tags = { "Blog Post" })
     @Parameter(name = "id", description = "blog post id", in = ParameterIn.PATH)
+    @Parameter(name = HttpHeaders.IF_MATCH, description = "ETag the update is based on", in = ParameterIn.HEADER)
     @PutMapping("/{id}")
-    public ResponseEntity<WebResponse<BlogPostDTO>> updateBlog(@PathVariable Long id, @RequestBody BlogPostRequest blog) {
-        BlogPostDTO updatedBlog = blogService.updateBlog(id, blog);
+    public ResponseEntity<WebResponse<BlogPostDTO>> updateBlog(@PathVariable Long id, @RequestBody BlogPostRequest blog,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        BlogPostDTO updatedBlog = blogService.updateBlog(id, blog, ifMatch);
         WebResponse<BlogPostDTO> response = WebResponse.<BlogPostDTO>builder().data(updatedBlog).build();
-        return new ResponseEntity<>(response, HttpStatus.OK);
+        return ResponseEntity.ok()
+                .eTag(BlogUtils.getETag(updatedBlog.getId(), updatedBlog.getVersion()))
+                .body(response);
     }
 
     @Operation(summary = "delete blog post", description = "delete blog post", tags = { "Blog Post" })
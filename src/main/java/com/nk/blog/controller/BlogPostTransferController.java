@@ -0,0 +1,43 @@
+package com.nk.blog.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.nk.blog.dto.BlogPostBulkResultDTO;
+import com.nk.blog.dto.WebResponse;
+import com.nk.blog.service.BlogPostTransferService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/blogs")
+@RequiredArgsConstructor
+public class BlogPostTransferController {
+
+    private final BlogPostTransferService blogPostTransferService;
+
+    @Operation(summary = "export blog posts", description = "stream every blog post as newline delimited JSON", tags = { "Blog Post Transfer" })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportBlogs() {
+        StreamingResponseBody body = blogPostTransferService::exportBlogs;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @Operation(summary = "import blog posts", description = "create blog posts from newline delimited JSON, committed in batches, returns the failed lines", tags = { "Blog Post Transfer" })
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<WebResponse<BlogPostBulkResultDTO>> importBlogs(InputStream body) throws IOException {
+        BlogPostBulkResultDTO result = blogPostTransferService.importBlogs(body);
+        WebResponse<BlogPostBulkResultDTO> response = WebResponse.<BlogPostBulkResultDTO>builder().data(result).build();
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+}
@@ -17,6 +17,7 @@ import com.nk.blog.exception.ForbiddenException;
 import com.nk.blog.exception.InternalServerException;
 import com.nk.blog.exception.MethodNotAllowedException;
 import com.nk.blog.exception.NotFoundException;
+import com.nk.blog.exception.PreconditionFailedException;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -117,6 +118,18 @@ public class TaskControllerAdvice {
         return new ResponseEntity<>(response, HttpStatus.CONFLICT);
     }
 
+    /**
+     * Response for a conditional request whose precondition no longer holds.
+     */
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    @ExceptionHandler(PreconditionFailedException.class)
+    @ResponseBody
+    public ResponseEntity<WebResponse<Object>> handlePreconditionFailedException(PreconditionFailedException ex) {
+        WebResponse<Object> response = new WebResponse<>();
+        response.setMessage(ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.PRECONDITION_FAILED);
+    }
+
      /**
      * Response for any data conflict.
      */
@@ -0,0 +1,29 @@
+package com.nk.blog.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.nk.blog.enums.BulkItemStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/*
+* Result of a single item of a bulk create request.
+*/
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BlogPostBulkItemDTO {
+	// position of the item in the request
+	private Integer index;
+	@JsonProperty("blog_id")
+	private Long id;
+	@JsonProperty("blog_title")
+	private String title;
+	private BulkItemStatus status;
+	private String message;
+}
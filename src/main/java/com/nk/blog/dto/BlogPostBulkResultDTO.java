@@ -0,0 +1,21 @@
+package com.nk.blog.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/*
+* Model for the result of a bulk create request.
+*/
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogPostBulkResultDTO {
+	private Integer created;
+	private Integer failed;
+	private List<BlogPostBulkItemDTO> results;
+}
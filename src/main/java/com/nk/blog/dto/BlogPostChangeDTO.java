@@ -0,0 +1,33 @@
+package com.nk.blog.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.nk.blog.enums.BlogPostChangeType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/*
+* A committed change of a blog post, the data of a change stream event.
+*/
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BlogPostChangeDTO {
+    @JsonProperty("blog_id")
+    private Long id;
+    @JsonProperty("change_type")
+    private BlogPostChangeType type;
+    @JsonProperty("blog_version")
+    private Long version;
+    @JsonProperty("last_updated_by")
+    private Long lastUpdatedBy;
+    @JsonProperty("last_updated_at")
+    private LocalDateTime lastUpdatedAt;
+}
@@ -2,7 +2,6 @@ package com.nk.blog.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.nk.blog.enums.BlogStatus;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -13,20 +12,10 @@ import lombok.experimental.SuperBuilder;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 @EqualsAndHashCode(callSuper = true)
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class BlogPostDTO extends BaseDTO {
-    @JsonProperty("blog_id")
-    private Long id;
-    @JsonProperty("blog_title")
-    private String title;
-    @JsonProperty("blog_description")
-    private String description;
+public class BlogPostDTO extends BlogPostSummaryDTO {
     @JsonProperty("blog_content")
     private String content;
-    @JsonProperty("blog_image_url")
-    private String imageUrl;
-    @JsonProperty("blog_status")
-    private BlogStatus blogStatus;
 }
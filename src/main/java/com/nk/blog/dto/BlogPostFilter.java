@@ -0,0 +1,34 @@
+package com.nk.blog.dto;
+
+import java.time.LocalDateTime;
+
+import com.nk.blog.enums.BlogStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/*
+* Optional filters of the blog post list endpoints, date ranges are [from, to).
+*/
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogPostFilter {
+    private BlogStatus status;
+    private Long createdBy;
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdTo;
+    private LocalDateTime updatedFrom;
+    private LocalDateTime updatedTo;
+
+    public boolean hasDateRange() {
+        return null != createdFrom || null != createdTo || null != updatedFrom || null != updatedTo;
+    }
+
+    public boolean isEmpty() {
+        return null == status && null == createdBy && !hasDateRange();
+    }
+}
@@ -2,6 +2,7 @@ package com.nk.blog.dto;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.nk.blog.enums.BlogPostShortBy;
 import com.nk.blog.enums.SortOrder;
@@ -19,7 +20,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class BlogPostListDTO {
-    private List<BlogPostDTO> blogPostList;
+    private List<? extends BlogPostSummaryDTO> blogPostList;
 	@JsonProperty("total_pages")
 	private Integer totalPages;
 	private Long total;
@@ -27,4 +28,10 @@ public class BlogPostListDTO {
 	private SortOrder sortOrder;
 	@JsonProperty("sort_by")
 	private BlogPostShortBy sortBy;
+	@JsonProperty("next_cursor")
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private String nextCursor;
+	@JsonProperty("has_next")
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Boolean hasNext;
 }
@@ -0,0 +1,35 @@
+package com.nk.blog.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.nk.blog.enums.BlogStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/*
+* Blog post without content, used by the summary list view.
+*/
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder(toBuilder = true)
+@EqualsAndHashCode(callSuper = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BlogPostSummaryDTO extends BaseDTO {
+    @JsonProperty("blog_id")
+    private Long id;
+    @JsonProperty("blog_title")
+    private String title;
+    @JsonProperty("blog_description")
+    private String description;
+    @JsonProperty("blog_image_url")
+    private String imageUrl;
+    @JsonProperty("blog_status")
+    private BlogStatus blogStatus;
+    @JsonProperty("blog_version")
+    private Long version;
+}
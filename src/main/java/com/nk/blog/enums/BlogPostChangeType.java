@@ -0,0 +1,10 @@
+package com.nk.blog.enums;
+
+/**
+ * enum for the kind of change pushed on the blog post change stream
+ */
+public enum BlogPostChangeType {
+	CREATED,
+	UPDATED,
+	DELETED
+}
@@ -3,7 +3,10 @@ package com.nk.blog.enums;
 public enum BlogPostShortBy {
     
     CREATED_AT("createdAt"),
-    CREATED_BY("createdBy");
+    CREATED_BY("createdBy"),
+    LAST_UPDATED_AT("lastUpdatedAt"),
+    TITLE("title"),
+    ID("id");
 
     private String orderBy;
 
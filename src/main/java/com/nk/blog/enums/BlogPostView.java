@@ -0,0 +1,9 @@
+package com.nk.blog.enums;
+
+/**
+ * enum for the list view, SUMMARY leaves out the blog content
+ */
+public enum BlogPostView {
+	FULL,
+	SUMMARY
+}
@@ -0,0 +1,9 @@
+package com.nk.blog.enums;
+
+/**
+ * enum for the outcome of a single item of a bulk request
+ */
+public enum BulkItemStatus {
+	CREATED,
+	FAILED
+}
@@ -0,0 +1,30 @@
+package com.nk.blog.enums;
+
+/**
+ * enum for the codec blog post content is stored with, the id is written as the
+ * first byte of the stored value so rows stay readable when the codec changes
+ */
+public enum ContentCodec {
+	NONE((byte) 0),
+	DEFLATE((byte) 1),
+	GZIP((byte) 2);
+
+	private final byte id;
+
+	ContentCodec(byte id) {
+		this.id = id;
+	}
+
+	public byte getId() {
+		return this.id;
+	}
+
+	public static ContentCodec fromId(byte id) {
+		for (ContentCodec codec : values()) {
+			if (codec.id == id) {
+				return codec;
+			}
+		}
+		throw new IllegalArgumentException("Unknown content codec id: " + id);
+	}
+}
@@ -0,0 +1,28 @@
+package com.nk.blog.model;
+
+import com.nk.blog.repo.BlogContentCodec;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Stores {@link BlogPost#getContent()} through the configured {@link BlogContentCodec}.
+ * Hibernate resolves converters from the spring context, so the codec settings apply.
+ */
+@Converter
+@RequiredArgsConstructor
+public class BlogContentConverter implements AttributeConverter<String, byte[]> {
+
+    private final BlogContentCodec blogContentCodec;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String content) {
+        return blogContentCodec.encode(content);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] stored) {
+        return blogContentCodec.decode(stored);
+    }
+}
@@ -1,9 +1,12 @@
 package com.nk.blog.model;
 
+import org.hibernate.annotations.SQLRestriction;
+
 import com.nk.blog.enums.BlogStatus;
 
 import jakarta.persistence.Basic;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
@@ -11,6 +14,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Lob;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -24,21 +28,30 @@ import lombok.experimental.SuperBuilder;
 @EqualsAndHashCode(callSuper = true)
 @Table(name = "blog_post")
 @Entity
+// deleted posts stay in the table until BlogPostPurgeJob removes them, every entity query skips them
+@SQLRestriction("status <> 'DELETED'")
 public class BlogPost extends BaseModel {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     @Column(name = "title", nullable = false)
     private String title;
+    // title of a soft deleted post, its title is cleared so a new post can take it
+    @Column(name = "deleted_title")
+    private String deletedTitle;
     @Column(name = "description", nullable = false, length = 500)
     private String description;
-    @Column(name = "content", nullable = false)
+    @Column(name = "content_data", nullable = false)
     @Lob @Basic(fetch = jakarta.persistence.FetchType.LAZY) // Large Object
+    @Convert(converter = BlogContentConverter.class) // compressed at rest
     private String content;
     @Column(name = "image_url")
     private String imageUrl;
     @Column(name = "status")
     @Enumerated(value = jakarta.persistence.EnumType.STRING)
     private BlogStatus status;
+    @Version // checked and bumped by every update
+    @Column(name = "version", nullable = false)
+    private Long version;
 
 }
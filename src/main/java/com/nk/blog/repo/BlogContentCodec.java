@@ -0,0 +1,94 @@
+package com.nk.blog.repo;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.nk.blog.enums.ContentCodec;
+
+/**
+ * Encodes blog post content for the content_data column. The first byte of the
+ * stored value is the id of the {@link ContentCodec} used, the rest is the UTF-8
+ * content, compressed unless it is below the size threshold or would not get
+ * smaller. Reads always follow the stored codec, so changing the configuration
+ * only affects rows written afterwards.
+ */
+@Component
+public class BlogContentCodec {
+
+    private final ContentCodec codec;
+
+    private final int minSize;
+
+    public BlogContentCodec(@Value("${blog.content.compression.codec:DEFLATE}") ContentCodec codec,
+            @Value("${blog.content.compression.min-size:1024}") int minSize) {
+        this.codec = codec;
+        this.minSize = minSize;
+    }
+
+    public byte[] encode(String content) {
+        if (null == content) {
+            return null;
+        }
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        if (ContentCodec.NONE == codec || raw.length < minSize) {
+            return withHeader(ContentCodec.NONE, raw);
+        }
+        byte[] compressed = compress(raw);
+        if (compressed.length >= raw.length) {
+            return withHeader(ContentCodec.NONE, raw);
+        }
+        return withHeader(codec, compressed);
+    }
+
+    public String decode(byte[] stored) {
+        if (null == stored) {
+            return null;
+        }
+        if (stored.length == 0) {
+            throw new IllegalArgumentException("Stored content is missing the codec header");
+        }
+        ContentCodec storedCodec = ContentCodec.fromId(stored[0]);
+        if (ContentCodec.NONE == storedCodec) {
+            return new String(stored, 1, stored.length - 1, StandardCharsets.UTF_8);
+        }
+        try (InputStream in = decompressing(storedCodec, stored)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decompress blog post content", e);
+        }
+    }
+
+    private byte[] compress(byte[] raw) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(raw.length / 2);
+        try (OutputStream out = ContentCodec.GZIP == codec ? new GZIPOutputStream(buffer) : new DeflaterOutputStream(buffer)) {
+            out.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress blog post content", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static InputStream decompressing(ContentCodec storedCodec, byte[] stored) throws IOException {
+        InputStream in = new ByteArrayInputStream(stored, 1, stored.length - 1);
+        return ContentCodec.GZIP == storedCodec ? new GZIPInputStream(in) : new InflaterInputStream(in);
+    }
+
+    private static byte[] withHeader(ContentCodec storedCodec, byte[] payload) {
+        byte[] stored = new byte[payload.length + 1];
+        stored[0] = storedCodec.getId();
+        System.arraycopy(payload, 0, stored, 1, payload.length);
+        return stored;
+    }
+}
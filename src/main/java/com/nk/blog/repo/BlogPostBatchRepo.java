@@ -0,0 +1,21 @@
+package com.nk.blog.repo;
+
+import java.util.List;
+
+import com.nk.blog.model.BlogPost;
+
+/**
+ * Custom fragment of {@link BlogPostRepo} for writes that go straight to JDBC.
+ */
+public interface BlogPostBatchRepo {
+
+    /**
+     * Inserts the given posts using JDBC batches and sets the generated ids on them.
+     * IDENTITY ids keep hibernate from batching inserts, so this bypasses the
+     * persistence context.
+     *
+     * @param blogPosts posts to insert, audit fields must already be set
+     * @return the same posts with their ids populated
+     */
+    List<BlogPost> batchInsert(List<BlogPost> blogPosts);
+}
@@ -0,0 +1,67 @@
+package com.nk.blog.repo;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import com.nk.blog.model.BlogPost;
+
+public class BlogPostBatchRepoImpl implements BlogPostBatchRepo {
+
+    private static final String INSERT_SQL = "insert into blog_post "
+            + "(title, description, content_data, image_url, status, created_by, created_at, last_updated_by, last_updated_at, version) "
+            + "values (:title, :description, :content, :imageUrl, :status, :createdBy, :createdAt, :lastUpdatedBy, :lastUpdatedAt, :version)";
+
+    private static final long INITIAL_VERSION = 0L;
+
+    private static final String[] KEY_COLUMNS = { "id" };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final BlogContentCodec blogContentCodec;
+
+    private final int batchSize;
+
+    public BlogPostBatchRepoImpl(NamedParameterJdbcTemplate jdbcTemplate, BlogContentCodec blogContentCodec,
+            @Value("${blog.bulk.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.blogContentCodec = blogContentCodec;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public List<BlogPost> batchInsert(List<BlogPost> blogPosts) {
+        for (int from = 0; from < blogPosts.size(); from += batchSize) {
+            List<BlogPost> chunk = blogPosts.subList(from, Math.min(from + batchSize, blogPosts.size()));
+            SqlParameterSource[] batchArgs = chunk.stream().map(this::toParameters).toArray(SqlParameterSource[]::new);
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs, keyHolder, KEY_COLUMNS);
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            for (int i = 0; i < chunk.size(); i++) {
+                chunk.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+                chunk.get(i).setVersion(INITIAL_VERSION);
+            }
+        }
+        return blogPosts;
+    }
+
+    private SqlParameterSource toParameters(BlogPost blogPost) {
+        return new MapSqlParameterSource()
+                .addValue("title", blogPost.getTitle())
+                .addValue("description", blogPost.getDescription())
+                .addValue("content", blogContentCodec.encode(blogPost.getContent()))
+                .addValue("imageUrl", blogPost.getImageUrl())
+                .addValue("status", null != blogPost.getStatus() ? blogPost.getStatus().name() : null)
+                .addValue("createdBy", blogPost.getCreatedBy())
+                .addValue("createdAt", blogPost.getCreatedAt())
+                .addValue("lastUpdatedBy", blogPost.getLastUpdatedBy())
+                .addValue("lastUpdatedAt", blogPost.getLastUpdatedAt())
+                .addValue("version", INITIAL_VERSION);
+    }
+}
@@ -0,0 +1,192 @@
+package com.nk.blog.repo;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.nk.blog.enums.BlogStatus;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Post counts per author and status in blog_post_count. The service adjusts
+ * them in the same transaction as the post write, so list requests can read the
+ * total from this small table instead of counting blog_post. Posts without an
+ * author are counted under author 0, deleted posts are not counted. Totals over
+ * all authors read the status index instead of the whole table.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BlogPostCountRepo {
+
+    /**
+     * Author to start reconciling after, below the author 0 of posts without one.
+     */
+    public static final long BEFORE_FIRST_AUTHOR = -1L;
+
+    private static final long NO_AUTHOR = 0L;
+
+    private static final String UPDATE_SQL = "update blog_post_count set post_count = post_count + :delta "
+            + "where created_by = :createdBy and status = :status";
+
+    private static final String DECREMENT_FOR_POST_SQL = "update blog_post_count c set post_count = post_count - 1 "
+            + "where exists (select 1 from blog_post b where b.id = :id "
+            + "and coalesce(b.created_by, 0) = c.created_by and b.status = c.status)";
+
+    private static final String INSERT_SQL = "insert into blog_post_count (created_by, status, post_count) "
+            + "values (:createdBy, :status, :delta)";
+
+    private static final String COUNT_ALL_SQL = "select coalesce(sum(post_count), 0) from blog_post_count";
+
+    private static final String COUNT_BY_CREATED_BY_SQL = "select coalesce(sum(post_count), 0) from blog_post_count "
+            + "where created_by = :createdBy";
+
+    private static final String COUNT_BY_STATUS_SQL = "select coalesce(sum(post_count), 0) from blog_post_count "
+            + "where status = :status";
+
+    private static final String COUNT_BY_CREATED_BY_AND_STATUS_SQL = COUNT_BY_STATUS_SQL + " and created_by = :createdBy";
+
+    private static final String NEXT_POST_AUTHOR_SQL = "select distinct created_by from blog_post "
+            + "where created_by > :after order by created_by offset :skip rows fetch first 1 row only";
+
+    private static final String NEXT_COUNT_AUTHOR_SQL = "select created_by from blog_post_count "
+            + "where created_by > :after group by created_by order by created_by offset :skip rows fetch first 1 row only";
+
+    private static final String LOCK_RANGE_SQL = "select created_by, status, post_count from blog_post_count "
+            + "where created_by > :after and created_by <= :last for update";
+
+    private static final String RECOUNT_RANGE_SQL = "select created_by, status, count(*) post_count from blog_post "
+            + "where created_by > :after and created_by <= :last and status <> 'DELETED' group by created_by, status";
+
+    private static final String RECOUNT_NO_AUTHOR_SQL = "select 0 created_by, status, count(*) post_count from blog_post "
+            + "where created_by is null and status <> 'DELETED' group by status";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds delta to the count of an author and status, creating the row on the
+     * first post. Ignored for DELETED.
+     */
+    public void increment(Long createdBy, BlogStatus status, long delta) {
+        if (0 == delta || null == status || BlogStatus.DELETED == status) {
+            return;
+        }
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("createdBy", null != createdBy ? createdBy : NO_AUTHOR)
+                .addValue("status", status.name())
+                .addValue("delta", delta);
+        if (jdbcTemplate.update(UPDATE_SQL, parameters) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, parameters);
+        } catch (DuplicateKeyException e) {
+            // another transaction created the row first
+            jdbcTemplate.update(UPDATE_SQL, parameters);
+        }
+    }
+
+    /**
+     * Takes one post off the count of its author and status, reading both from
+     * the post row inside the statement. Must run before the post is deleted.
+     * Already deleted posts are not counted and leave the counts untouched.
+     *
+     * @return number of count rows updated, 0 when the post does not exist
+     */
+    public int decrementForPost(Long postId) {
+        return jdbcTemplate.update(DECREMENT_FOR_POST_SQL, Map.of("id", postId));
+    }
+
+    public long countAll() {
+        return jdbcTemplate.queryForObject(COUNT_ALL_SQL, Map.of(), Long.class);
+    }
+
+    public long countByCreatedBy(Long createdBy) {
+        return jdbcTemplate.queryForObject(COUNT_BY_CREATED_BY_SQL,
+                Map.of("createdBy", null != createdBy ? createdBy : NO_AUTHOR), Long.class);
+    }
+
+    /**
+     * Count of posts in a status, optionally limited to one author.
+     */
+    public long countByStatus(Long createdBy, BlogStatus status) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("status", status.name());
+        if (null == createdBy) {
+            return jdbcTemplate.queryForObject(COUNT_BY_STATUS_SQL, parameters, Long.class);
+        }
+        return jdbcTemplate.queryForObject(COUNT_BY_CREATED_BY_AND_STATUS_SQL,
+                parameters.addValue("createdBy", createdBy), Long.class);
+    }
+
+    /**
+     * Recomputes the counts of the next authors after the given one from
+     * blog_post and applies the differences. Only the count rows of that range
+     * are locked, and only while it is recounted, so a full pass is a series of
+     * short transactions. A range ends before the authors-th next author of
+     * either table, the last range is open ended.
+     *
+     * @param after   last author of the previous range, BEFORE_FIRST_AUTHOR to
+     *                start
+     * @param authors number of authors per range
+     * @return last author of the range and the number of count rows corrected
+     */
+    @Transactional
+    public ReconciledRange reconcile(long after, int authors) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("after", after)
+                .addValue("skip", Math.max(1, authors) - 1);
+        long last = Math.min(nextAuthor(NEXT_POST_AUTHOR_SQL, parameters),
+                nextAuthor(NEXT_COUNT_AUTHOR_SQL, parameters));
+        parameters.addValue("last", last);
+
+        // locked first, a post write of the range waits on its count row until the recount commits
+        Map<AuthorStatus, Long> differences = new HashMap<>();
+        jdbcTemplate.query(LOCK_RANGE_SQL, parameters, adding(differences, -1));
+        jdbcTemplate.query(RECOUNT_RANGE_SQL, parameters, adding(differences, 1));
+        if (after < NO_AUTHOR) {
+            jdbcTemplate.query(RECOUNT_NO_AUTHOR_SQL, Map.of(), adding(differences, 1));
+        }
+
+        int corrected = 0;
+        for (Map.Entry<AuthorStatus, Long> difference : differences.entrySet()) {
+            if (0 != difference.getValue()) {
+                increment(difference.getKey().createdBy(), difference.getKey().status(), difference.getValue());
+                corrected++;
+            }
+        }
+        return new ReconciledRange(last, corrected);
+    }
+
+    private long nextAuthor(String sql, MapSqlParameterSource parameters) {
+        List<Long> next = jdbcTemplate.queryForList(sql, parameters, Long.class);
+        return next.isEmpty() ? Long.MAX_VALUE : next.get(0);
+    }
+
+    private static RowCallbackHandler adding(Map<AuthorStatus, Long> differences, int sign) {
+        return rs -> differences.merge(new AuthorStatus(rs.getLong("created_by"),
+                BlogStatus.valueOf(rs.getString("status"))), sign * rs.getLong("post_count"), Long::sum);
+    }
+
+    private record AuthorStatus(long createdBy, BlogStatus status) {
+    }
+
+    /**
+     * Outcome of reconciling one range of authors.
+     *
+     * @param lastAuthor last author of the range, pass it to the next call
+     * @param corrected  number of count rows that were off
+     */
+    public record ReconciledRange(long lastAuthor, int corrected) {
+
+        public boolean isLast() {
+            return Long.MAX_VALUE == lastAuthor;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.nk.blog.repo;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.nk.blog.model.BlogPost;
+
+/**
+ * Custom fragment of {@link BlogPostRepo} for filtered listings. Unlike
+ * JpaSpecificationExecutor#findAll(Specification, Pageable) it only reads the
+ * requested page, totals are counted separately by the caller.
+ */
+public interface BlogPostFilterRepo {
+
+    List<BlogPost> findAllMatching(Specification<BlogPost> specification, Pageable pageable);
+
+    /**
+     * Same as {@link #findAllMatching} but selects only the
+     * {@link BlogPostSummary} columns.
+     */
+    List<BlogPostSummary> findSummaryMatching(Specification<BlogPost> specification, Pageable pageable);
+}
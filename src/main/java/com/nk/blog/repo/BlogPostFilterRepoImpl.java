@@ -0,0 +1,87 @@
+package com.nk.blog.repo;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import com.nk.blog.model.BlogPost;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+public class BlogPostFilterRepoImpl implements BlogPostFilterRepo {
+
+    private static final String[] SUMMARY_ATTRIBUTES = { "id", "title", "description", "imageUrl", "status",
+            "createdBy", "createdAt", "lastUpdatedBy", "lastUpdatedAt", "version" };
+
+    private final EntityManager entityManager;
+
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    public BlogPostFilterRepoImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<BlogPost> findAllMatching(Specification<BlogPost> specification, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BlogPost> query = cb.createQuery(BlogPost.class);
+        Root<BlogPost> root = query.from(BlogPost.class);
+        query.select(root);
+        applyFilterAndSort(query, root, cb, specification, pageable);
+        return page(entityManager.createQuery(query), pageable).getResultList();
+    }
+
+    @Override
+    public List<BlogPostSummary> findSummaryMatching(Specification<BlogPost> specification, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<BlogPost> root = query.from(BlogPost.class);
+        query.multiselect(Arrays.stream(SUMMARY_ATTRIBUTES)
+                .<Selection<?>>map(attribute -> root.get(attribute).alias(attribute))
+                .toList());
+        applyFilterAndSort(query, root, cb, specification, pageable);
+        return page(entityManager.createQuery(query), pageable).getResultList().stream()
+                .map(this::toSummary)
+                .toList();
+    }
+
+    private void applyFilterAndSort(CriteriaQuery<?> query, Root<BlogPost> root, CriteriaBuilder cb,
+            Specification<BlogPost> specification, Pageable pageable) {
+        if (null != specification) {
+            query.where(specification.toPredicate(root, query, cb));
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+    }
+
+    private static <T> TypedQuery<T> page(TypedQuery<T> query, Pageable pageable) {
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return query;
+    }
+
+    private BlogPostSummary toSummary(Tuple tuple) {
+        Map<String, Object> values = new HashMap<>();
+        for (TupleElement<?> element : tuple.getElements()) {
+            values.put(element.getAlias(), tuple.get(element));
+        }
+        return projectionFactory.createProjection(BlogPostSummary.class, values);
+    }
+}
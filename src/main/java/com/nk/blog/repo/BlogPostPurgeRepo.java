@@ -0,0 +1,37 @@
+package com.nk.blog.repo;
+
+import java.time.LocalDateTime;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Hard deletes soft deleted posts. Plain JDBC on purpose, the entity restriction
+ * hides DELETED rows from JPA. Every call runs outside of a transaction, so each
+ * batch commits and releases its locks on its own.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BlogPostPurgeRepo {
+
+    private static final String PURGE_SQL = "delete from blog_post where id in ("
+            + "select id from blog_post where status = 'DELETED' and last_updated_at < :cutoff "
+            + "order by last_updated_at, id fetch first :limit rows only)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Deletes at most limit posts that were deleted before the cutoff, oldest
+     * first.
+     *
+     * @return number of posts removed, less than limit once nothing is left
+     */
+    public int purgeDeleted(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update(PURGE_SQL, new MapSqlParameterSource()
+                .addValue("cutoff", cutoff)
+                .addValue("limit", limit));
+    }
+}
@@ -1,17 +1,125 @@
 package com.nk.blog.repo;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-import org.springframework.data.domain.Page;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.nk.blog.model.BlogPost;
 
-public interface BlogPostRepo extends JpaRepository<BlogPost, Long>{
-    
+import jakarta.persistence.QueryHint;
 
-	Page<BlogPost> findAllByCreatedBy(Long userId,Pageable pageable);
+public interface BlogPostRepo extends JpaRepository<BlogPost, Long>, JpaSpecificationExecutor<BlogPost>,
+        BlogPostBatchRepo, BlogPostFilterRepo {
+
+
+    /*
+     * Offset pages are returned as lists so spring data does not issue a count
+     * query, totals come from BlogPostCountRepo.
+     */
+    List<BlogPost> findAllBy(Pageable pageable);
+
+	List<BlogPost> findAllByCreatedBy(Long userId,Pageable pageable);
+
+    /*
+     * Slices read one row past the page to know if there is a next page, no
+     * count is involved.
+     */
+    Slice<BlogPost> findSliceBy(Pageable pageable);
+
+    Slice<BlogPost> findSliceByCreatedBy(Long userId, Pageable pageable);
+
+    Slice<BlogPostSummary> findSummarySliceBy(Pageable pageable);
+
+    Slice<BlogPostSummary> findSummarySliceByCreatedBy(Long userId, Pageable pageable);
 
     Optional<BlogPost> findByTitle(String title);
+
+    boolean existsByTitle(String title);
+
+    @Query("select b.title from BlogPost b")
+    Stream<String> streamAllTitles();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select b from BlogPost b order by b.id")
+    Stream<BlogPost> streamAllBy();
+
+    List<BlogPostSummary> findSummaryByIdIn(Collection<Long> ids);
+
+    List<BlogPostSummary> findSummaryBy(Pageable pageable);
+
+    List<BlogPostSummary> findSummaryByCreatedBy(Long userId, Pageable pageable);
+
+    Optional<BlogPostVersion> findVersionById(Long id);
+
+    Optional<BlogPostSummary> findSummaryById(Long id);
+
+    /*
+     * Writes the post in one UPDATE without loading it, the version in the where
+     * clause keeps the optimistic lock of the entity. Returns the number of rows
+     * updated, 0 when the post is gone or its version moved on.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update BlogPost b set b.title = :#{#post.title}, b.description = :#{#post.description}, "
+            + "b.content = :#{#post.content}, b.imageUrl = :#{#post.imageUrl}, b.status = :#{#post.status}, "
+            + "b.lastUpdatedBy = :#{#post.lastUpdatedBy}, b.lastUpdatedAt = :#{#post.lastUpdatedAt}, "
+            + "b.version = b.version + 1 where b.id = :#{#post.id} and b.version = :#{#post.version}")
+    int updatePost(@Param("post") BlogPost post);
+
+    /*
+     * Soft delete, flips the status to DELETED so the entity restriction hides
+     * the post. The title moves to deleted_title, so it is free for a new post
+     * right away as it was before soft deletes. Returns 0 when the post does
+     * not exist or is already deleted.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update BlogPost b set b.status = com.nk.blog.enums.BlogStatus.DELETED, "
+            + "b.deletedTitle = b.title, b.title = null, "
+            + "b.lastUpdatedBy = :#{#post.lastUpdatedBy}, b.lastUpdatedAt = :#{#post.lastUpdatedAt}, "
+            + "b.version = b.version + 1 where b.id = :#{#post.id} and b.status <> com.nk.blog.enums.BlogStatus.DELETED")
+    int markDeleted(@Param("post") BlogPost post);
+
+    @Query("select b.title from BlogPost b where b.title in :titles")
+    List<String> findExistingTitles(@Param("titles") Collection<String> titles);
+
+    /*
+     * Keyset (seek) queries ordered by (created_at, id). The pageable is only used
+     * as a row limit, returning a List keeps spring data from issuing a count query.
+     * Author queries also order by the constant created_by, so H2 reads the
+     * (created_by, created_at, id) index in order.
+     */
+    @Query("select b from BlogPost b order by b.createdAt asc, b.id asc")
+    List<BlogPost> findSeekFirstAsc(Pageable pageable);
+
+    @Query("select b from BlogPost b order by b.createdAt desc, b.id desc")
+    List<BlogPost> findSeekFirstDesc(Pageable pageable);
+
+    @Query("select b from BlogPost b where b.createdAt > :createdAt or (b.createdAt = :createdAt and b.id > :id) order by b.createdAt asc, b.id asc")
+    List<BlogPost> findSeekAfterAsc(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("select b from BlogPost b where b.createdAt < :createdAt or (b.createdAt = :createdAt and b.id < :id) order by b.createdAt desc, b.id desc")
+    List<BlogPost> findSeekAfterDesc(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("select b from BlogPost b where b.createdBy = :userId order by b.createdBy asc, b.createdAt asc, b.id asc")
+    List<BlogPost> findSeekFirstByCreatedByAsc(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select b from BlogPost b where b.createdBy = :userId order by b.createdBy desc, b.createdAt desc, b.id desc")
+    List<BlogPost> findSeekFirstByCreatedByDesc(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select b from BlogPost b where b.createdBy = :userId and (b.createdAt > :createdAt or (b.createdAt = :createdAt and b.id > :id)) order by b.createdBy asc, b.createdAt asc, b.id asc")
+    List<BlogPost> findSeekAfterByCreatedByAsc(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("select b from BlogPost b where b.createdBy = :userId and (b.createdAt < :createdAt or (b.createdAt = :createdAt and b.id < :id)) order by b.createdBy desc, b.createdAt desc, b.id desc")
+    List<BlogPost> findSeekAfterByCreatedByDesc(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 }
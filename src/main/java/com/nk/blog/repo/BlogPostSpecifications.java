@@ -0,0 +1,48 @@
+package com.nk.blog.repo;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.nk.blog.enums.BlogStatus;
+import com.nk.blog.model.BlogPost;
+
+/**
+ * Predicates for filtered blog post listings. Every factory returns null for a
+ * missing value so they can be chained with {@link Specification#and}.
+ */
+public abstract class BlogPostSpecifications {
+
+    private BlogPostSpecifications() {
+    }
+
+    public static Specification<BlogPost> hasStatus(BlogStatus status) {
+        return null == status ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<BlogPost> createdBy(Long createdBy) {
+        return null == createdBy ? null : (root, query, cb) -> cb.equal(root.get("createdBy"), createdBy);
+    }
+
+    /**
+     * Posts created in [from, to), either bound may be null.
+     */
+    public static Specification<BlogPost> createdBetween(LocalDateTime from, LocalDateTime to) {
+        return between("createdAt", from, to);
+    }
+
+    /**
+     * Posts last updated in [from, to), either bound may be null.
+     */
+    public static Specification<BlogPost> updatedBetween(LocalDateTime from, LocalDateTime to) {
+        return between("lastUpdatedAt", from, to);
+    }
+
+    private static Specification<BlogPost> between(String attribute, LocalDateTime from, LocalDateTime to) {
+        Specification<BlogPost> lower = null == from ? null
+                : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get(attribute), from);
+        Specification<BlogPost> upper = null == to ? null
+                : (root, query, cb) -> cb.lessThan(root.get(attribute), to);
+        return null == lower ? upper : lower.and(upper);
+    }
+}
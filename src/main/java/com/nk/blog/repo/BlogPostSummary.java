@@ -0,0 +1,31 @@
+package com.nk.blog.repo;
+
+import java.time.LocalDateTime;
+
+import com.nk.blog.enums.BlogStatus;
+
+/**
+ * Closed projection of {@link com.nk.blog.model.BlogPost} without the content
+ * column, derived queries returning it select only these columns.
+ */
+public interface BlogPostSummary {
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    String getImageUrl();
+
+    BlogStatus getStatus();
+
+    Long getCreatedBy();
+
+    LocalDateTime getCreatedAt();
+
+    Long getLastUpdatedBy();
+
+    LocalDateTime getLastUpdatedAt();
+
+    Long getVersion();
+}
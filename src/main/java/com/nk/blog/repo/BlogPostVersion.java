@@ -0,0 +1,11 @@
+package com.nk.blog.repo;
+
+/**
+ * Closed projection with just the fields that make up the ETag of a
+ * {@link com.nk.blog.model.BlogPost}.
+ */
+public interface BlogPostVersion {
+    Long getId();
+
+    Long getVersion();
+}
@@ -0,0 +1,68 @@
+package com.nk.blog.repo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Post view counts in blog_post_view. Written only by BlogPostViewCounter, which
+ * sends the views it buffered as one delta per post, so a hot post costs one
+ * UPDATE per flush no matter how often it is read.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BlogPostViewRepo {
+
+    private static final String UPDATE_SQL = "update blog_post_view set view_count = view_count + :delta "
+            + "where post_id = :postId";
+
+    private static final String INSERT_SQL = "insert into blog_post_view (post_id, view_count) values (:postId, :delta)";
+
+    private static final String FIND_SQL = "select view_count from blog_post_view where post_id = :postId";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds the views of every post in two batches at most, an UPDATE batch and an
+     * INSERT batch for posts without a row yet. All or nothing, when another
+     * instance inserted one of the rows first the whole call rolls back and the
+     * caller keeps the deltas for its next flush.
+     *
+     * @param deltas views to add per post id, iterated in key order so concurrent
+     *               flushes of several instances lock rows in the same order
+     */
+    @Transactional
+    public void addViews(Map<Long, Long> deltas) {
+        SqlParameterSource[] rows = deltas.entrySet().stream()
+                .map(delta -> new MapSqlParameterSource()
+                        .addValue("postId", delta.getKey())
+                        .addValue("delta", delta.getValue()))
+                .toArray(SqlParameterSource[]::new);
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, rows);
+        List<SqlParameterSource> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (0 == updated[i]) {
+                missing.add(rows[i]);
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, missing.toArray(SqlParameterSource[]::new));
+    }
+
+    /**
+     * @return views stored for the post, 0 when none were flushed yet
+     */
+    public long findViewCount(Long postId) {
+        return jdbcTemplate.query(FIND_SQL, Map.of("postId", postId), rs -> rs.next() ? rs.getLong(1) : 0L);
+    }
+}
@@ -0,0 +1,93 @@
+package com.nk.blog.repo;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Copies blog_post.content into content_data through {@link BlogContentCodec}.
+ * Rows are converted in keyset ordered batches that commit on their own, and
+ * only rows without content_data are picked up, so a failed run resumes where
+ * it stopped. Registered as a bean so it sees the configured codec.
+ */
+@Component
+@Slf4j
+public class CompressBlogPostContentMigration implements JavaMigration {
+
+    private static final String SELECT_SQL = "select id, content from blog_post "
+            + "where id > ? and content_data is null order by id limit ?";
+
+    private static final String UPDATE_SQL = "update blog_post set content_data = ? where id = ?";
+
+    private final BlogContentCodec blogContentCodec;
+
+    private final int batchSize;
+
+    public CompressBlogPostContentMigration(BlogContentCodec blogContentCodec,
+            @Value("${blog.bulk.batch-size:500}") int batchSize) {
+        this.blogContentCodec = blogContentCodec;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("1.3.1");
+    }
+
+    @Override
+    public String getDescription() {
+        return "compress blog post content";
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return null;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        long lastId = 0;
+        long converted = 0;
+        int rows;
+        try (PreparedStatement select = connection.prepareStatement(SELECT_SQL);
+                PreparedStatement update = connection.prepareStatement(UPDATE_SQL)) {
+            do {
+                rows = 0;
+                select.setLong(1, lastId);
+                select.setInt(2, batchSize);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        lastId = resultSet.getLong(1);
+                        update.setBytes(1, blogContentCodec.encode(resultSet.getString(2)));
+                        update.setLong(2, lastId);
+                        update.addBatch();
+                        rows++;
+                    }
+                }
+                if (rows > 0) {
+                    update.executeBatch();
+                    if (!connection.getAutoCommit()) {
+                        connection.commit();
+                    }
+                    converted += rows;
+                }
+            } while (rows == batchSize);
+        }
+        log.info("Compressed content of {} blog posts", converted);
+    }
+}
@@ -1,16 +1,28 @@
 package com.nk.blog.service;
 
+import java.util.List;
+
+import com.nk.blog.dto.BlogPostBulkResultDTO;
 import com.nk.blog.dto.BlogPostDTO;
+import com.nk.blog.dto.BlogPostFilter;
 import com.nk.blog.dto.BlogPostListDTO;
 import com.nk.blog.dto.BlogPostRequest;
 import com.nk.blog.enums.BlogPostShortBy;
+import com.nk.blog.enums.BlogPostView;
 import com.nk.blog.enums.SortOrder;
 
 public interface BlogPostService {
     BlogPostDTO createBlog(BlogPostRequest blogRequest);
-    BlogPostListDTO getAllBlogsCurrentUser(Integer page, Integer pageSize, SortOrder sort, BlogPostShortBy sortBy);
-    BlogPostListDTO getAllBlogs(Integer page, Integer pageSize, SortOrder sort, BlogPostShortBy sortBy);
+    BlogPostBulkResultDTO bulkCreateBlogs(List<BlogPostRequest> blogRequests);
+    BlogPostListDTO getAllBlogsCurrentUser(Integer page, Integer pageSize, SortOrder sort, BlogPostShortBy sortBy, BlogPostView view, BlogPostFilter filter);
+    BlogPostListDTO getAllBlogs(Integer page, Integer pageSize, SortOrder sort, BlogPostShortBy sortBy, BlogPostView view, BlogPostFilter filter);
+    BlogPostListDTO getAllBlogsBySlice(Integer page, Integer pageSize, SortOrder sort, BlogPostShortBy sortBy, BlogPostView view);
+    BlogPostListDTO getAllBlogsCurrentUserBySlice(Integer page, Integer pageSize, SortOrder sort, BlogPostShortBy sortBy, BlogPostView view);
+    BlogPostListDTO getAllBlogsByCursor(String cursor, Integer pageSize, SortOrder sort, BlogPostShortBy sortBy);
+    BlogPostListDTO getAllBlogsCurrentUserByCursor(String cursor, Integer pageSize, SortOrder sort, BlogPostShortBy sortBy);
     BlogPostDTO getBlogById(Long id);
-    BlogPostDTO updateBlog(Long id, BlogPostRequest blog);
+    Long getBlogVersion(Long id);
+    BlogPostListDTO searchBlogs(String query, Integer page, Integer pageSize);
+    BlogPostDTO updateBlog(Long id, BlogPostRequest blog, String ifMatch);
     void deleteBlog(Long id);
 }
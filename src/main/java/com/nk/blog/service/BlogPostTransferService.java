@@ -0,0 +1,13 @@
+package com.nk.blog.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.nk.blog.dto.BlogPostBulkResultDTO;
+
+public interface BlogPostTransferService {
+    long exportBlogs(OutputStream outputStream) throws IOException;
+
+    BlogPostBulkResultDTO importBlogs(InputStream inputStream) throws IOException;
+}
@@ -0,0 +1,94 @@
+package com.nk.blog.service.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nk.blog.exception.InternalServerException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the serialized, and for larger bodies gzip encoded, single post
+ * response keyed by its ETag. The ETag is built from the id and version, so an
+ * updated post gets a new key and stale bodies just age out. The cache is
+ * bounded by bytes and its frequency based admission keeps the hot posts, which
+ * are then served without serializing or compressing again.
+ */
+@Component
+@Slf4j
+public class BlogPostBodyCache {
+
+    private final ObjectMapper objectMapper;
+
+    private final int minGzipSize;
+
+    private final Cache<String, EncodedBody> cache;
+
+    public BlogPostBodyCache(ObjectMapper objectMapper,
+            @Value("${blog.response-cache.max-bytes:67108864}") long maxBytes,
+            @Value("${blog.response-cache.min-gzip-size:1024}") int minGzipSize) {
+        this.objectMapper = objectMapper;
+        this.minGzipSize = minGzipSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String eTag, EncodedBody body) -> body.size())
+                .build();
+    }
+
+    /**
+     * @param eTag ETag of the current version of the post, may be null
+     * @return the stored body, null if the version is not cached
+     */
+    public EncodedBody get(String eTag) {
+        return null == eTag ? null : cache.getIfPresent(eTag);
+    }
+
+    /**
+     * Serializes and encodes the body once and stores it under the ETag.
+     *
+     * @param eTag ETag of the version the body was built from
+     * @param body response body
+     * @return the encoded body
+     */
+    public EncodedBody put(String eTag, Object body) {
+        EncodedBody encoded;
+        try {
+            byte[] identity = objectMapper.writeValueAsBytes(body);
+            encoded = new EncodedBody(eTag, identity, identity.length >= minGzipSize ? gzip(identity) : null);
+        } catch (IOException e) {
+            log.error("Failed to encode blog post response: {}", e.getMessage());
+            throw new InternalServerException("Failed to encode blog post response: " + e.getMessage());
+        }
+        cache.put(eTag, encoded);
+        return encoded;
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    private static byte[] gzip(byte[] identity) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(identity.length / 2);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(identity);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Response body of one post version, gzip is null when the body is too small
+     * to be worth compressing.
+     */
+    public record EncodedBody(String eTag, byte[] identity, byte[] gzip) {
+        int size() {
+            return identity.length + (null == gzip ? 0 : gzip.length);
+        }
+    }
+}
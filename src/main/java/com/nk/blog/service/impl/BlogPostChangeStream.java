@@ -0,0 +1,327 @@
+package com.nk.blog.service.impl;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nk.blog.dto.BlogPostChangeDTO;
+import com.nk.blog.enums.BlogPostChangeType;
+import com.nk.blog.model.BlogPost;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pushes committed post changes to Server-Sent Events subscribers.
+ *
+ * A change is serialized once and kept in a ring buffer of the last events,
+ * so a client that reconnects with Last-Event-ID gets what it missed. Event
+ * ids start with the startup time of this instance, a client that comes back
+ * from another instance or from too long ago gets a reset event and reloads
+ * the list instead. Every subscriber has a bounded queue. A subscriber that
+ * falls that far behind is disconnected, so a slow client never holds back the
+ * writer or the other subscribers. A bulk create sends one reset event instead
+ * of an event per post, so a large batch never overruns the queues. Queues are
+ * written out by a virtual thread
+ * that only runs while a queue has events, an idle subscriber is just an open
+ * async request. Changes published on another instance are not seen here.
+ */
+@Component
+@Slf4j
+public class BlogPostChangeStream {
+
+    public static final String SUBSCRIBERS_GAUGE = "blog.changes.subscribers";
+
+    public static final String EVICTED_COUNTER = "blog.changes.evicted";
+
+    public static final String RESET_EVENT = "RESET";
+
+    private final ObjectMapper objectMapper;
+
+    private final Duration timeout;
+
+    private final int subscriberBuffer;
+
+    private final String streamId = Long.toString(System.currentTimeMillis());
+
+    private final List<Set<DataWithMediaType>> replay;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Counter evicted;
+
+    // guarded by this, like the ring buffer
+    private long lastSequence;
+
+    public BlogPostChangeStream(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${blog.changes.replay-size:1000}") int replaySize,
+            @Value("${blog.changes.subscriber-buffer:1000}") int subscriberBuffer,
+            @Value("${blog.changes.timeout:PT30M}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.replay = new ArrayList<>(Collections.nCopies(Math.max(1, replaySize), null));
+        this.subscriberBuffer = subscriberBuffer;
+        this.timeout = timeout;
+        Gauge.builder(SUBSCRIBERS_GAUGE, subscribers, Set::size)
+                .description("Open blog post change stream connections")
+                .register(meterRegistry);
+        this.evicted = Counter.builder(EVICTED_COUNTER)
+                .description("Change stream subscribers disconnected for falling behind")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream of the changes committed from now on.
+     *
+     * @param lastEventId id of the last event the client received, its missed
+     *                    events are sent first, null for a new client
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        subscribe(emitter, lastEventId);
+        return emitter;
+    }
+
+    void subscribe(SseEmitter emitter, String lastEventId) {
+        Subscriber subscriber = new Subscriber(emitter, new LinkedBlockingQueue<>(subscriberBuffer));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        synchronized (this) {
+            List<Set<DataWithMediaType>> missed = null != lastEventId ? missedSince(lastEventId) : List.of();
+            if (null == missed || !offerAll(subscriber, missed)) {
+                subscriber.queue().clear();
+                subscriber.queue().offer(resetEvent());
+            }
+            if (subscriber.queue().isEmpty()) {
+                // commits the response so the client sees the stream is open
+                subscriber.queue().offer(comment("subscribed"));
+            }
+            subscribers.add(subscriber);
+        }
+        send(subscriber);
+    }
+
+    /**
+     * Publishes the change once the surrounding transaction commits, nothing is
+     * sent for a rollback.
+     *
+     * @param type     kind of change
+     * @param blogPost the post as written
+     */
+    public void publishAfterCommit(BlogPostChangeType type, BlogPost blogPost) {
+        BlogPostChangeDTO change = BlogPostChangeDTO.builder()
+                .id(blogPost.getId())
+                .type(type)
+                .version(blogPost.getVersion())
+                .lastUpdatedBy(blogPost.getLastUpdatedBy())
+                .lastUpdatedAt(blogPost.getLastUpdatedAt())
+                .build();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(change);
+            }
+        });
+    }
+
+    /**
+     * Publishes a reset event once the surrounding transaction commits, telling
+     * clients to reload the list. Used for writes of many posts at once, where an
+     * event per post would overrun the subscriber queues.
+     */
+    public void publishResetAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(RESET_EVENT, RESET_EVENT);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(RESET_EVENT, RESET_EVENT);
+            }
+        });
+    }
+
+    void publish(BlogPostChangeDTO change) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(change);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize change of blog {}: {}", change.getId(), e.getMessage());
+            return;
+        }
+        publish(change.getType().name(), data);
+    }
+
+    private void publish(String name, String data) {
+        List<Subscriber> behind = new ArrayList<>();
+        synchronized (this) {
+            long sequence = ++lastSequence;
+            Set<DataWithMediaType> event = SseEmitter.event()
+                    .id(eventId(sequence))
+                    .name(name)
+                    .data(data)
+                    .build();
+            replay.set((int) (sequence % replay.size()), event);
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.queue().offer(event)) {
+                    behind.add(subscriber);
+                }
+            }
+        }
+        behind.forEach(this::evict);
+        subscribers.forEach(this::send);
+    }
+
+    /**
+     * Keeps idle connections from being closed by proxies and finds the ones the
+     * client already dropped.
+     */
+    @Scheduled(initialDelayString = "${blog.changes.heartbeat:PT15S}",
+            fixedDelayString = "${blog.changes.heartbeat:PT15S}")
+    public void heartbeat() {
+        Set<DataWithMediaType> heartbeat = comment("heartbeat");
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.queue().offer(heartbeat)) {
+                send(subscriber);
+            } else {
+                evict(subscriber);
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void close() {
+        subscribers.forEach(subscriber -> {
+            subscribers.remove(subscriber);
+            subscriber.emitter().complete();
+        });
+        senders.shutdownNow();
+    }
+
+    /*
+     * Events after the given id, null when they are no longer all in the ring
+     * buffer or the id was issued by another instance.
+     */
+    private List<Set<DataWithMediaType>> missedSince(String lastEventId) {
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !streamId.equals(lastEventId.substring(0, separator))) {
+            return null;
+        }
+        long since;
+        try {
+            since = Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (since > lastSequence || since < lastSequence - replay.size()) {
+            return null;
+        }
+        List<Set<DataWithMediaType>> missed = new ArrayList<>((int) (lastSequence - since));
+        for (long sequence = since + 1; sequence <= lastSequence; sequence++) {
+            missed.add(replay.get((int) (sequence % replay.size())));
+        }
+        return missed;
+    }
+
+    private static boolean offerAll(Subscriber subscriber, List<Set<DataWithMediaType>> events) {
+        for (Set<DataWithMediaType> event : events) {
+            if (!subscriber.queue().offer(event)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * Writes the queue of the subscriber on a virtual thread, at most one per
+     * subscriber at a time, so events keep their order.
+     */
+    private void send(Subscriber subscriber) {
+        if (subscriber.queue().isEmpty() || !subscriber.sending().compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            senders.execute(() -> drain(subscriber));
+        } catch (RuntimeException e) {
+            subscriber.sending().set(false);
+            log.warn("Could not schedule change stream send: {}", e.getMessage());
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            do {
+                Set<DataWithMediaType> event;
+                while (null != (event = subscriber.queue().poll())) {
+                    subscriber.emitter().send(event);
+                }
+                subscriber.sending().set(false);
+                // an event queued after the last poll found the flag still set
+            } while (!subscriber.queue().isEmpty() && subscriber.sending().compareAndSet(false, true));
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(subscriber);
+            subscriber.queue().clear();
+            subscriber.emitter().completeWithError(e);
+        }
+    }
+
+    private void evict(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            evicted.increment();
+            log.warn("Disconnected blog change stream subscriber {} events behind", subscriberBuffer);
+            subscriber.emitter().complete();
+        }
+    }
+
+    private Set<DataWithMediaType> resetEvent() {
+        return SseEmitter.event().id(eventId(lastSequence)).name(RESET_EVENT).data(RESET_EVENT).build();
+    }
+
+    private String eventId(long sequence) {
+        return streamId + "-" + sequence;
+    }
+
+    private static Set<DataWithMediaType> comment(String comment) {
+        return SseEmitter.event().comment(comment).build();
+    }
+
+    private record Subscriber(SseEmitter emitter, BlockingQueue<Set<DataWithMediaType>> queue, AtomicBoolean sending) {
+
+        Subscriber(SseEmitter emitter, BlockingQueue<Set<DataWithMediaType>> queue) {
+            this(emitter, queue, new AtomicBoolean());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.nk.blog.service.impl;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.nk.blog.repo.BlogPostCountRepo;
+import com.nk.blog.repo.BlogPostCountRepo.ReconciledRange;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically recounts the posts from blog_post, correcting any drift from
+ * writes that bypassed the service, e.g. manual fixes in the database. Authors
+ * are recounted a range at a time, each range in its own transaction, so only
+ * the count rows of one range are locked at any time.
+ */
+@Component
+@Slf4j
+public class BlogPostCountReconciler {
+
+    private final BlogPostCountRepo blogPostCountRepo;
+
+    private final int batchSize;
+
+    public BlogPostCountReconciler(BlogPostCountRepo blogPostCountRepo,
+            @Value("${blog.post-count.reconcile-batch-size:1000}") int batchSize) {
+        this.blogPostCountRepo = blogPostCountRepo;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${blog.post-count.reconcile-interval:PT1H}",
+            fixedDelayString = "${blog.post-count.reconcile-interval:PT1H}")
+    public void reconcile() {
+        try {
+            int corrected = reconcileAll();
+            log.info("Reconciled blog post counts, corrected {} author and status rows", corrected);
+        } catch (Exception e) {
+            log.error("Failed to reconcile blog post counts: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Walks all authors range by range.
+     *
+     * @return number of count rows corrected
+     */
+    int reconcileAll() {
+        int corrected = 0;
+        ReconciledRange range;
+        long after = BlogPostCountRepo.BEFORE_FIRST_AUTHOR;
+        do {
+            range = blogPostCountRepo.reconcile(after, batchSize);
+            corrected += range.corrected();
+            after = range.lastAuthor();
+        } while (!range.isLast());
+        return corrected;
+    }
+}
@@ -0,0 +1,108 @@
+package com.nk.blog.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.nk.blog.constants.DateConstants;
+import com.nk.blog.repo.BlogPostPurgeRepo;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hard deletes posts that were soft deleted longer than the retention ago. Runs
+ * off-peak on a cron schedule and removes rows in small batches with a pause in
+ * between, so it never holds locks for long or saturates the database while
+ * reads are served. Progress is published as {@code blog.purge.rows} (posts
+ * removed) and {@code blog.purge.batch} (time per batch).
+ */
+@Component
+@Slf4j
+public class BlogPostPurgeJob {
+
+    public static final String ROWS_COUNTER = "blog.purge.rows";
+
+    public static final String BATCH_TIMER = "blog.purge.batch";
+
+    private final BlogPostPurgeRepo blogPostPurgeRepo;
+
+    private final Duration retention;
+
+    private final int batchSize;
+
+    private final Duration batchPause;
+
+    private final int maxBatches;
+
+    private final Counter rows;
+
+    private final Timer batches;
+
+    public BlogPostPurgeJob(BlogPostPurgeRepo blogPostPurgeRepo, MeterRegistry meterRegistry,
+            @Value("${blog.purge.retention:30d}") Duration retention,
+            @Value("${blog.purge.batch-size:100}") int batchSize,
+            @Value("${blog.purge.batch-pause:500ms}") Duration batchPause,
+            @Value("${blog.purge.max-batches:1000}") int maxBatches) {
+        this.blogPostPurgeRepo = blogPostPurgeRepo;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+        this.maxBatches = maxBatches;
+        this.rows = Counter.builder(ROWS_COUNTER)
+                .description("Soft deleted blog posts removed by the purge job")
+                .register(meterRegistry);
+        this.batches = Timer.builder(BATCH_TIMER)
+                .description("Time taken by one purge batch")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${blog.purge.cron:0 0 3 * * *}")
+    public void purge() {
+        try {
+            int purged = purgeExpired();
+            log.info("Purged {} deleted blog posts", purged);
+        } catch (Exception e) {
+            log.error("Failed to purge deleted blog posts: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Removes expired DELETED posts batch by batch until none are left or the
+     * batch budget of the run is spent, the rest waits for the next run.
+     *
+     * @return number of posts removed
+     */
+    public int purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now(DateConstants.DEFAULT_ZONEID).minus(retention);
+        int total = 0;
+        for (int batch = 1; batch <= maxBatches; batch++) {
+            int purged = batches.record(() -> blogPostPurgeRepo.purgeDeleted(cutoff, batchSize));
+            rows.increment(purged);
+            total += purged;
+            if (purged < batchSize || batch == maxBatches || !pause()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        if (batchPause.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Purge of deleted blog posts interrupted");
+            return false;
+        }
+    }
+}
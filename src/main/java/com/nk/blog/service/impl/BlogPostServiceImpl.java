@@ -1,30 +1,69 @@
 package com.nk.blog.service.impl;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.ConstraintViolationException.ConstraintKind;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import com.nk.blog.config.ReplicaRoutingDataSource;
+import com.nk.blog.constants.PostConstents;
+import com.nk.blog.dto.BlogPostBulkItemDTO;
+import com.nk.blog.dto.BlogPostBulkResultDTO;
 import com.nk.blog.dto.BlogPostDTO;
+import com.nk.blog.dto.BlogPostFilter;
 import com.nk.blog.dto.BlogPostListDTO;
 import com.nk.blog.dto.BlogPostRequest;
+import com.nk.blog.dto.BlogPostSummaryDTO;
+import com.nk.blog.enums.BlogPostChangeType;
 import com.nk.blog.enums.BlogPostShortBy;
+import com.nk.blog.enums.BlogPostView;
+import com.nk.blog.enums.BlogStatus;
+import com.nk.blog.enums.BulkItemStatus;
 import com.nk.blog.enums.SortOrder;
 import com.nk.blog.exception.BadRequestException;
 import com.nk.blog.exception.CustomDataIntegrityViolationException;
 import com.nk.blog.exception.DataConflictException;
 import com.nk.blog.exception.InternalServerException;
 import com.nk.blog.exception.NotFoundException;
+import com.nk.blog.exception.PreconditionFailedException;
 import com.nk.blog.exception.UnAuthorizedException;
 import com.nk.blog.model.BlogPost;
+import com.nk.blog.repo.BlogPostCountRepo;
 import com.nk.blog.repo.BlogPostRepo;
+import com.nk.blog.repo.BlogPostSpecifications;
+import com.nk.blog.repo.BlogPostSummary;
+import com.nk.blog.repo.BlogPostVersion;
 import com.nk.blog.service.BlogPostService;
 import com.nk.blog.utils.BlogUtils;
 import com.nk.blog.utils.Util;
 import com.nk.blog.utils.Util.PagePageSizeRecord;
+import com.nk.blog.utils.Util.SeekCursorRecord;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,8 +73,20 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class BlogPostServiceImpl implements BlogPostService {
 
+  private static final String PINNED_TO_PRIMARY = "T(com.nk.blog.config.ReplicaRoutingDataSource).isPinnedToPrimary()";
+
   private final BlogPostRepo blogPostRepo;
 
+  private final BlogTitleIndex blogTitleIndex;
+
+  private final BlogSearchIndex blogSearchIndex;
+
+  private final BlogPostCountRepo blogPostCountRepo;
+
+  private final BlogPostChangeStream blogPostChangeStream;
+
+  private final CacheManager cacheManager;
+
   /**
    * Creates a new blog post based on the provided request.
    *
@@ -45,27 +96,175 @@ public class BlogPostServiceImpl implements BlogPostService {
    *         +
    */
   @Override
+  @Transactional
   public BlogPostDTO createBlog(BlogPostRequest blogRequest) {
+    String title = blogRequest.getTitle();
+    if (!blogTitleIndex.tryReserve(title)) {
+      throw new DataConflictException("Blog already exists with this exact title");
+    }
     try {
       validateBlogRequest(blogRequest);
       BlogPost blogToSave = BlogUtils.blogPostRequestToBlog(blogRequest);
       BlogUtils.setAuditField(blogToSave);
       blogToSave = blogPostRepo.save(blogToSave);
+      blogPostCountRepo.increment(blogToSave.getCreatedBy(), blogToSave.getStatus(), 1);
+      blogTitleIndex.add(blogToSave.getTitle());
+      blogSearchIndex.indexAfterCommit(blogToSave);
+      blogPostChangeStream.publishAfterCommit(BlogPostChangeType.CREATED, blogToSave);
       return BlogUtils.blogPostToDTO(blogToSave);
     } catch (DataIntegrityViolationException e) {
+      if (isDuplicateKey(e)) {
+        throw new DataConflictException("Blog already exists with this exact title");
+      }
       log.error("Failed to create blog due to data integrity violation: {}", e.getMessage());
       throw new CustomDataIntegrityViolationException(
           "Failed to create blog due to data integrity violation: " + e.getMessage());
+    } finally {
+      blogTitleIndex.releaseAfterCompletion(Collections.singletonList(title));
+    }
+  }
+
+  /**
+   * Creates many blog posts at once. Titles are checked against the database
+   * with one set based query and the valid posts are written with JDBC batch
+   * inserts.
+   *
+   * @param blogRequests the requests of the blog posts to be created
+   * @return the outcome of each item in request order
+   * @throws BadRequestException if the request is empty or too large
+   */
+  @Override
+  @Transactional
+  public BlogPostBulkResultDTO bulkCreateBlogs(List<BlogPostRequest> blogRequests) {
+    if (null == blogRequests || blogRequests.isEmpty()) {
+      throw new BadRequestException("Bulk request must contain at least one blog post");
+    }
+    if (blogRequests.size() > PostConstents.MAX_BULK_SIZE) {
+      throw new BadRequestException(
+          "Bulk request cannot contain more than " + PostConstents.MAX_BULK_SIZE + " blog posts");
+    }
+    Set<String> existingTitles = findExistingTitles(blogRequests);
+    Set<String> reservedTitles = new HashSet<>();
+    BlogPostBulkItemDTO[] results = new BlogPostBulkItemDTO[blogRequests.size()];
+    List<BlogPost> blogsToSave = new ArrayList<>();
+    List<Integer> savedIndexes = new ArrayList<>();
+    try {
+      for (int i = 0; i < blogRequests.size(); i++) {
+        BlogPostRequest blogRequest = blogRequests.get(i);
+        String error = validateBulkItem(blogRequest, existingTitles, reservedTitles);
+        if (null != error) {
+          results[i] = BlogPostBulkItemDTO.builder()
+              .index(i)
+              .title(null != blogRequest ? blogRequest.getTitle() : null)
+              .status(BulkItemStatus.FAILED)
+              .message(error)
+              .build();
+          continue;
+        }
+        BlogPost blogToSave = BlogUtils.blogPostRequestToBlog(blogRequest);
+        blogToSave.setId(null);
+        BlogUtils.setAuditField(blogToSave);
+        blogsToSave.add(blogToSave);
+        savedIndexes.add(i);
+      }
+      if (!blogsToSave.isEmpty()) {
+        blogPostRepo.batchInsert(blogsToSave);
+        countCreated(blogsToSave);
+        blogsToSave.forEach(saved -> {
+          blogTitleIndex.add(saved.getTitle());
+          blogSearchIndex.indexAfterCommit(saved);
+        });
+        // one event for the batch, thousands in a row would overrun every subscriber
+        blogPostChangeStream.publishResetAfterCommit();
+      }
+    } catch (DataIntegrityViolationException e) {
+      if (isDuplicateKey(e)) {
+        throw new DataConflictException("Blog already exists with one of these exact titles");
+      }
+      log.error("Failed to bulk create blogs due to data integrity violation: {}", e.getMessage());
+      throw new CustomDataIntegrityViolationException(
+          "Failed to bulk create blogs due to data integrity violation: " + e.getMessage());
+    } finally {
+      blogTitleIndex.releaseAfterCompletion(reservedTitles);
+    }
+    for (int i = 0; i < blogsToSave.size(); i++) {
+      BlogPost saved = blogsToSave.get(i);
+      results[savedIndexes.get(i)] = BlogPostBulkItemDTO.builder()
+          .index(savedIndexes.get(i))
+          .id(saved.getId())
+          .title(saved.getTitle())
+          .status(BulkItemStatus.CREATED)
+          .build();
+    }
+    return BlogPostBulkResultDTO.builder()
+        .created(blogsToSave.size())
+        .failed(blogRequests.size() - blogsToSave.size())
+        .results(List.of(results))
+        .build();
+  }
+
+  private Set<String> findExistingTitles(List<BlogPostRequest> blogRequests) {
+    List<String> titles = blogRequests.stream()
+        .filter(Objects::nonNull)
+        .map(BlogPostRequest::getTitle)
+        .filter(Objects::nonNull)
+        .filter(blogTitleIndex::mightContain)
+        .distinct()
+        .toList();
+    Set<String> existingTitles = new HashSet<>();
+    for (int from = 0; from < titles.size(); from += PostConstents.TITLE_LOOKUP_CHUNK_SIZE) {
+      existingTitles.addAll(blogPostRepo.findExistingTitles(
+          titles.subList(from, Math.min(from + PostConstents.TITLE_LOOKUP_CHUNK_SIZE, titles.size()))));
+    }
+    return existingTitles;
+  }
+
+  private String validateBulkItem(BlogPostRequest blogRequest, Set<String> existingTitles, Set<String> reservedTitles) {
+    if (null == blogRequest) {
+      return "Blog post cannot be null";
+    }
+    if (!StringUtils.hasText(blogRequest.getTitle())) {
+      return "Blog title cannot be blank";
+    }
+    if (!StringUtils.hasText(blogRequest.getDescription())) {
+      return "Blog description cannot be blank";
+    }
+    if (!StringUtils.hasText(blogRequest.getContent())) {
+      return "Blog content cannot be blank";
+    }
+    if (blogRequest.getTitle().length() > PostConstents.MAX_TITLE_LENGTH) {
+      return "Blog title cannot be longer than " + PostConstents.MAX_TITLE_LENGTH + " characters";
     }
+    if (blogRequest.getDescription().length() > PostConstents.MAX_DESCRIPTION_LENGTH) {
+      return "Blog description cannot be longer than " + PostConstents.MAX_DESCRIPTION_LENGTH + " characters";
+    }
+    if (existingTitles.contains(blogRequest.getTitle()) || reservedTitles.contains(blogRequest.getTitle())
+        || !blogTitleIndex.tryReserve(blogRequest.getTitle())) {
+      return "Blog already exists with this exact title";
+    }
+    reservedTitles.add(blogRequest.getTitle());
+    return null;
   }
 
   private void validateBlogRequest(BlogPostRequest blogRequest) {
-    Optional<BlogPost> blogOptional = blogPostRepo.findByTitle(blogRequest.getTitle());
-    if (blogOptional.isPresent()) {
+    // titles this instance has not seen skip the lookup, the unique index still catches the rest
+    if (blogTitleIndex.mightContain(blogRequest.getTitle())
+        && blogPostRepo.existsByTitle(blogRequest.getTitle())) {
       throw new DataConflictException("Blog already exists with this exact title");
     }
   }
 
+  /*
+   * A unique key violation on insert, title is the only unique column besides
+   * the id. Seen for titles created by another instance that the title index of
+   * this one does not know yet.
+   */
+  private static boolean isDuplicateKey(DataIntegrityViolationException e) {
+    return e instanceof DuplicateKeyException
+        || e.getCause() instanceof ConstraintViolationException violation
+            && ConstraintKind.UNIQUE == violation.getKind();
+  }
+
   /**
    * Retrieves all blog posts created by the current user.
    *
@@ -73,6 +272,8 @@ public class BlogPostServiceImpl implements BlogPostService {
    * @param pageSize the number of results per page (optional)
    * @param sort     the sort order of the results (optional)
    * @param sortBy   the field to sort the results by (optional)
+   * @param view     FULL to include content, SUMMARY to leave it out
+   * @param filter   status and date range filters, null or empty for all posts
    * @return a DTO containing the list of blog posts
    * @throws BadRequestException     if the request parameters are invalid
    * @throws InternalServerException if an error occurs while retrieving the
@@ -80,11 +281,14 @@ public class BlogPostServiceImpl implements BlogPostService {
    *                                 +
    */
   @Override
+  @Transactional(readOnly = true)
   public BlogPostListDTO getAllBlogsCurrentUser(
       Integer page,
       Integer pageSize,
       SortOrder sort,
-      BlogPostShortBy sortBy) {
+      BlogPostShortBy sortBy,
+      BlogPostView view,
+      BlogPostFilter filter) {
     Long userId = BlogUtils.getCurrentUserId();
     validateUser(userId);
     BlogPostListDTO.BlogPostListDTOBuilder builder = BlogPostListDTO
@@ -94,18 +298,31 @@ public class BlogPostServiceImpl implements BlogPostService {
     try {
       // if no page or pagesize specified return all posts for current user
       PagePageSizeRecord validatedPagePageSize = Util.getResult(page, pageSize);
-      Page<BlogPost> pagedSchedules = blogPostRepo.findAllByCreatedBy(userId,
-          Util.getPageable(
-              validatedPagePageSize.page(),
-              validatedPagePageSize.pageSize(),
-              null != sort ? sort.name() : null,
-              null != sortBy ? sortBy.getOrderBy() : null));
+      Pageable pageable = Util.getPageable(
+          validatedPagePageSize.page(),
+          validatedPagePageSize.pageSize(),
+          null != sort ? sort.name() : null,
+          null != sortBy ? sortBy.getOrderBy() : null);
+      Specification<BlogPost> specification = toSpecification(userId, filter);
+      List<? extends BlogPostSummaryDTO> blogPosts;
+      long total;
+      if (null != specification) {
+        blogPosts = findMatching(specification, pageable, view);
+        total = countMatching(userId, filter, specification);
+      } else {
+        Pageable authorPageable = Util.getAuthorPageable(pageable);
+        blogPosts = BlogPostView.SUMMARY == view
+            ? blogPostRepo.findSummaryByCreatedBy(userId, authorPageable).stream().map(BlogUtils::blogPostSummaryToDTO).toList()
+            : blogPostRepo.findAllByCreatedBy(userId, authorPageable).stream().map(BlogUtils::blogPostToDTO).toList();
+        total = blogPostCountRepo.countByCreatedBy(userId);
+      }
       this.validateAndAddDataToListBuilder(
           sort,
           sortBy,
           builder,
           validatedPagePageSize,
-          pagedSchedules);
+          blogPosts,
+          total);
     } catch (BadRequestException e) {
       throw e;
     } catch (Exception e) {
@@ -116,6 +333,65 @@ public class BlogPostServiceImpl implements BlogPostService {
     return builder.build();
   }
 
+  // one count update per author and status instead of one per post
+  private void countCreated(List<BlogPost> created) {
+    created.stream()
+        .collect(Collectors.groupingBy(
+            blogPost -> new AuthorStatus(blogPost.getCreatedBy(), blogPost.getStatus()),
+            Collectors.counting()))
+        .forEach((key, count) -> blogPostCountRepo.increment(key.createdBy(), key.status(), count));
+  }
+
+  private record AuthorStatus(Long createdBy, BlogStatus status) {
+  }
+
+  /**
+   * Builds the where clause of a filtered listing.
+   *
+   * @param createdBy author to restrict to, takes precedence over the filter
+   * @param filter    the requested filters
+   * @return null when there is nothing to filter on, so unfiltered listings
+   *         keep using the derived queries
+   */
+  private Specification<BlogPost> toSpecification(Long createdBy, BlogPostFilter filter) {
+    if (null == filter || filter.isEmpty()) {
+      return null;
+    }
+    validateRange(filter.getCreatedFrom(), filter.getCreatedTo(), PostConstents.CREATED_FROM, PostConstents.CREATED_TO);
+    validateRange(filter.getUpdatedFrom(), filter.getUpdatedTo(), PostConstents.UPDATED_FROM, PostConstents.UPDATED_TO);
+    return Specification.where(BlogPostSpecifications.createdBy(null != createdBy ? createdBy : filter.getCreatedBy()))
+        .and(BlogPostSpecifications.hasStatus(filter.getStatus()))
+        .and(BlogPostSpecifications.createdBetween(filter.getCreatedFrom(), filter.getCreatedTo()))
+        .and(BlogPostSpecifications.updatedBetween(filter.getUpdatedFrom(), filter.getUpdatedTo()));
+  }
+
+  private void validateRange(LocalDateTime from, LocalDateTime to, String fromName, String toName) {
+    if (null != from && null != to && !from.isBefore(to)) {
+      throw new BadRequestException("Invalid range: " + fromName + " must be before " + toName);
+    }
+  }
+
+  private List<? extends BlogPostSummaryDTO> findMatching(
+      Specification<BlogPost> specification,
+      Pageable pageable,
+      BlogPostView view) {
+    return BlogPostView.SUMMARY == view
+        ? blogPostRepo.findSummaryMatching(specification, pageable).stream().map(BlogUtils::blogPostSummaryToDTO).toList()
+        : blogPostRepo.findAllMatching(specification, pageable).stream().map(BlogUtils::blogPostToDTO).toList();
+  }
+
+  // author and status filters are answered by the maintained counts, date ranges need a count over blog_post
+  private long countMatching(Long createdBy, BlogPostFilter filter, Specification<BlogPost> specification) {
+    Long author = null != createdBy ? createdBy : filter.getCreatedBy();
+    if (filter.hasDateRange()) {
+      return blogPostRepo.count(specification);
+    }
+    if (null != filter.getStatus()) {
+      return blogPostCountRepo.countByStatus(author, filter.getStatus());
+    }
+    return null != author ? blogPostCountRepo.countByCreatedBy(author) : blogPostCountRepo.countAll();
+  }
+
   private void validateUser(Long userId) {
     // TODO if user not found throw exception
     if (null == userId) {
@@ -131,26 +407,27 @@ public class BlogPostServiceImpl implements BlogPostService {
    * @param sortBy                the criteria to sort schedules by
    * @param listBuilder           the ScheduleDTOListBuilder to add schedules to
    * @param validatedPagePageSize the page and page size record
-   * @param pagedBlogPost         the paged schedules to process
+   * @param blogPosts             the requested page already mapped to DTOs
+   * @param total                 the number of posts matching the listing
    */
   private void validateAndAddDataToListBuilder(
       SortOrder sort,
       BlogPostShortBy sortBy,
       BlogPostListDTO.BlogPostListDTOBuilder listBuilder,
       PagePageSizeRecord validatedPagePageSize,
-      Page<BlogPost> pagedBlogPost) {
-    if (validatedPagePageSize.page() > pagedBlogPost.getTotalPages()) {
+      List<? extends BlogPostSummaryDTO> blogPosts,
+      long total) {
+    int totalPages = (int) ((total + validatedPagePageSize.pageSize() - 1) / validatedPagePageSize.pageSize());
+    // an empty result still has a first page
+    if (validatedPagePageSize.page() > Math.max(1, totalPages)) {
       throw new BadRequestException(
-          "Invalid page number, number of available pages is " +
-              pagedBlogPost.getTotalPages());
+          "Invalid page number, number of available pages is " + totalPages);
     }
-    if (pagedBlogPost.hasContent()) {
-      List<BlogPostDTO> blogPostList = BlogUtils.blogPostListToDTO(
-          pagedBlogPost.getContent());
+    if (!blogPosts.isEmpty()) {
       listBuilder
-          .blogPostList(blogPostList)
-          .total(pagedBlogPost.getTotalElements())
-          .totalPages(pagedBlogPost.getTotalPages())
+          .blogPostList(blogPosts)
+          .total(total)
+          .totalPages(totalPages)
           .sortBy(sortBy)
           .sortOrder(sort);
     }
@@ -163,15 +440,21 @@ public class BlogPostServiceImpl implements BlogPostService {
    * @param pageSize the number of results per page
    * @param sort     the sort order of the results
    * @param sortBy   the field to sort the results by
+   * @param view     FULL to include content, SUMMARY to leave it out
+   * @param filter   status, author and date range filters, null or empty for
+   *                 all posts
    * @return a DTO containing the list of blog posts
    *
    */
   @Override
+  @Transactional(readOnly = true)
   public BlogPostListDTO getAllBlogs(
       Integer page,
       Integer pageSize,
       SortOrder sort,
-      BlogPostShortBy sortBy) {
+      BlogPostShortBy sortBy,
+      BlogPostView view,
+      BlogPostFilter filter) {
     BlogPostListDTO.BlogPostListDTOBuilder builder = BlogPostListDTO
         .builder()
         .blogPostList(new ArrayList<>());
@@ -179,18 +462,30 @@ public class BlogPostServiceImpl implements BlogPostService {
     try {
       // if no page or pagesize specified return all posts
       PagePageSizeRecord validatedPagePageSize = Util.getResult(page, pageSize);
-      Page<BlogPost> pagedSchedules = blogPostRepo.findAll(
-          Util.getPageable(
-              validatedPagePageSize.page(),
-              validatedPagePageSize.pageSize(),
-              null != sort ? sort.name() : null,
-              null != sortBy ? sortBy.getOrderBy() : null));
+      Pageable pageable = Util.getPageable(
+          validatedPagePageSize.page(),
+          validatedPagePageSize.pageSize(),
+          null != sort ? sort.name() : null,
+          null != sortBy ? sortBy.getOrderBy() : null);
+      Specification<BlogPost> specification = toSpecification(null, filter);
+      List<? extends BlogPostSummaryDTO> blogPosts;
+      long total;
+      if (null != specification) {
+        blogPosts = findMatching(specification, pageable, view);
+        total = countMatching(null, filter, specification);
+      } else {
+        blogPosts = BlogPostView.SUMMARY == view
+            ? blogPostRepo.findSummaryBy(pageable).stream().map(BlogUtils::blogPostSummaryToDTO).toList()
+            : blogPostRepo.findAllBy(pageable).stream().map(BlogUtils::blogPostToDTO).toList();
+        total = blogPostCountRepo.countAll();
+      }
       this.validateAndAddDataToListBuilder(
           sort,
           sortBy,
           builder,
           validatedPagePageSize,
-          pagedSchedules);
+          blogPosts,
+          total);
     } catch (BadRequestException e) {
       throw e;
     } catch (Exception e) {
@@ -202,7 +497,244 @@ public class BlogPostServiceImpl implements BlogPostService {
   }
 
   /**
-   * Retrieves a blog post by its ID.
+   * Retrieves a page of blog posts without counting them. One row more than
+   * the page size is read to tell whether a next page exists.
+   *
+   * @param page     the page number of the results
+   * @param pageSize the number of results per page
+   * @param sort     the sort order of the results
+   * @param sortBy   the field to sort the results by
+   * @param view     FULL to include content, SUMMARY to leave it out
+   * @return a DTO containing the list of blog posts and has_next
+   * @throws BadRequestException if the request parameters are invalid
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public BlogPostListDTO getAllBlogsBySlice(
+      Integer page,
+      Integer pageSize,
+      SortOrder sort,
+      BlogPostShortBy sortBy,
+      BlogPostView view) {
+    return getBlogsBySlice(null, page, pageSize, sort, sortBy, view);
+  }
+
+  /**
+   * Retrieves a page of blog posts created by the current user without
+   * counting them.
+   *
+   * @param page     the page number of the results
+   * @param pageSize the number of results per page
+   * @param sort     the sort order of the results
+   * @param sortBy   the field to sort the results by
+   * @param view     FULL to include content, SUMMARY to leave it out
+   * @return a DTO containing the list of blog posts and has_next
+   * @throws BadRequestException if the request parameters are invalid
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public BlogPostListDTO getAllBlogsCurrentUserBySlice(
+      Integer page,
+      Integer pageSize,
+      SortOrder sort,
+      BlogPostShortBy sortBy,
+      BlogPostView view) {
+    Long userId = BlogUtils.getCurrentUserId();
+    validateUser(userId);
+    return getBlogsBySlice(userId, page, pageSize, sort, sortBy, view);
+  }
+
+  private BlogPostListDTO getBlogsBySlice(
+      Long userId,
+      Integer page,
+      Integer pageSize,
+      SortOrder sort,
+      BlogPostShortBy sortBy,
+      BlogPostView view) {
+    PagePageSizeRecord validatedPagePageSize = Util.getResult(page, pageSize);
+    Pageable pageable = Util.getPageable(
+        validatedPagePageSize.page(),
+        validatedPagePageSize.pageSize(),
+        null != sort ? sort.name() : null,
+        null != sortBy ? sortBy.getOrderBy() : null);
+    Slice<? extends BlogPostSummaryDTO> slice;
+    try {
+      slice = BlogPostView.SUMMARY == view
+          ? (null == userId ? blogPostRepo.findSummarySliceBy(pageable)
+              : blogPostRepo.findSummarySliceByCreatedBy(userId, Util.getAuthorPageable(pageable)))
+                  .map(BlogUtils::blogPostSummaryToDTO)
+          : (null == userId ? blogPostRepo.findSliceBy(pageable)
+              : blogPostRepo.findSliceByCreatedBy(userId, Util.getAuthorPageable(pageable))).map(BlogUtils::blogPostToDTO);
+    } catch (Exception e) {
+      log.error("Exception occurred while getting posts by slice. {}", e.getMessage());
+      throw new InternalServerException(
+          "Exception occurred while getting posts.");
+    }
+    return BlogPostListDTO.builder()
+        .blogPostList(slice.getContent())
+        .sortOrder(sort)
+        .sortBy(sortBy)
+        .hasNext(slice.hasNext())
+        .build();
+  }
+
+  /**
+   * Retrieves blog posts using keyset pagination, every page costs the same
+   * regardless of how deep the client has scrolled.
+   *
+   * @param cursor   continuation token returned as next_cursor by the previous
+   *                 page, null for the first page
+   * @param pageSize the number of results per page
+   * @param sort     the sort order of the results
+   * @param sortBy   the field to sort the results by, only CREATED_AT is
+   *                 supported
+   * @return a DTO containing the list of blog posts and the next cursor
+   * @throws BadRequestException if the cursor or request parameters are invalid
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public BlogPostListDTO getAllBlogsByCursor(
+      String cursor,
+      Integer pageSize,
+      SortOrder sort,
+      BlogPostShortBy sortBy) {
+    return getBlogsByCursor(null, cursor, pageSize, sort, sortBy);
+  }
+
+  /**
+   * Retrieves blog posts created by the current user using keyset pagination.
+   *
+   * @param cursor   continuation token returned as next_cursor by the previous
+   *                 page, null for the first page
+   * @param pageSize the number of results per page
+   * @param sort     the sort order of the results
+   * @param sortBy   the field to sort the results by, only CREATED_AT is
+   *                 supported
+   * @return a DTO containing the list of blog posts and the next cursor
+   * @throws BadRequestException if the cursor or request parameters are invalid
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public BlogPostListDTO getAllBlogsCurrentUserByCursor(
+      String cursor,
+      Integer pageSize,
+      SortOrder sort,
+      BlogPostShortBy sortBy) {
+    Long userId = BlogUtils.getCurrentUserId();
+    validateUser(userId);
+    return getBlogsByCursor(userId, cursor, pageSize, sort, sortBy);
+  }
+
+  private BlogPostListDTO getBlogsByCursor(
+      Long userId,
+      String cursor,
+      Integer pageSize,
+      SortOrder sort,
+      BlogPostShortBy sortBy) {
+    validateSeekRequest(pageSize, sort, sortBy);
+    int limit = null != pageSize ? pageSize : PostConstents.DEFAULT_PAGE_SIZE;
+    SeekCursorRecord seekCursor = Util.decodeCursor(cursor);
+    List<BlogPost> rows;
+    try {
+      rows = findSeekPage(userId, seekCursor, sort, PageRequest.of(0, limit + 1));
+    } catch (Exception e) {
+      log.error("Exception occurred while getting posts by cursor. {}", e.getMessage());
+      throw new InternalServerException(
+          "Exception occurred while getting posts.");
+    }
+    String nextCursor = null;
+    if (rows.size() > limit) {
+      rows = rows.subList(0, limit);
+      BlogPost last = rows.get(limit - 1);
+      nextCursor = Util.encodeCursor(last.getCreatedAt(), last.getId());
+    }
+    return BlogPostListDTO.builder()
+        .blogPostList(BlogUtils.blogPostListToDTO(rows))
+        .sortOrder(sort)
+        .sortBy(sortBy)
+        .nextCursor(nextCursor)
+        .build();
+  }
+
+  private void validateSeekRequest(Integer pageSize, SortOrder sort, BlogPostShortBy sortBy) {
+    if (null != pageSize && pageSize < 1) {
+      throw new BadRequestException("Page size cannot be less than 1");
+    }
+    if (null == sort) {
+      throw new BadRequestException("Invalid sort parameter: null. Must be 'ASC' or 'DESC'.");
+    }
+    if (BlogPostShortBy.CREATED_AT != sortBy) {
+      throw new BadRequestException("Invalid sortBy parameter: " + sortBy + ". Cursor pagination supports only CREATED_AT.");
+    }
+  }
+
+  private List<BlogPost> findSeekPage(Long userId, SeekCursorRecord seekCursor, SortOrder sort, Pageable limit) {
+    boolean desc = SortOrder.DESC == sort;
+    if (null == userId) {
+      if (null == seekCursor) {
+        return desc ? blogPostRepo.findSeekFirstDesc(limit) : blogPostRepo.findSeekFirstAsc(limit);
+      }
+      return desc
+          ? blogPostRepo.findSeekAfterDesc(seekCursor.createdAt(), seekCursor.id(), limit)
+          : blogPostRepo.findSeekAfterAsc(seekCursor.createdAt(), seekCursor.id(), limit);
+    }
+    if (null == seekCursor) {
+      return desc
+          ? blogPostRepo.findSeekFirstByCreatedByDesc(userId, limit)
+          : blogPostRepo.findSeekFirstByCreatedByAsc(userId, limit);
+    }
+    return desc
+        ? blogPostRepo.findSeekAfterByCreatedByDesc(userId, seekCursor.createdAt(), seekCursor.id(), limit)
+        : blogPostRepo.findSeekAfterByCreatedByAsc(userId, seekCursor.createdAt(), seekCursor.id(), limit);
+  }
+
+  /**
+   * Full text search over title, description and content, ranked by relevance.
+   * Hits are resolved from the in-memory search index and only the requested
+   * page is read from the database, without content.
+   *
+   * @param query    free text query
+   * @param page     the page number of the results
+   * @param pageSize the number of results per page
+   * @return a DTO containing the matching blog posts in rank order
+   * @throws BadRequestException if the query or paging parameters are invalid
+   */
+  @Override
+  public BlogPostListDTO searchBlogs(String query, Integer page, Integer pageSize) {
+    if (!StringUtils.hasText(query)) {
+      throw new BadRequestException("Search query cannot be blank");
+    }
+    PagePageSizeRecord validatedPagePageSize = Util.getResult(page, pageSize);
+    if (validatedPagePageSize.pageSize() < 1) {
+      throw new BadRequestException("Page size cannot be less than 1");
+    }
+    int pageNumber = Math.max(validatedPagePageSize.page(), 1);
+    int limit = validatedPagePageSize.pageSize();
+    BlogSearchIndex.SearchHits hits = blogSearchIndex.search(query, (pageNumber - 1) * limit, limit);
+    BlogPostListDTO.BlogPostListDTOBuilder builder = BlogPostListDTO.builder()
+        .blogPostList(new ArrayList<>())
+        .total(hits.total())
+        .totalPages((int) ((hits.total() + limit - 1) / limit));
+    if (!hits.ids().isEmpty()) {
+      Map<Long, BlogPostSummary> summaries = blogPostRepo.findSummaryByIdIn(hits.ids()).stream()
+          .collect(Collectors.toMap(BlogPostSummary::getId, Function.identity()));
+      builder.blogPostList(hits.ids().stream()
+          .map(summaries::get)
+          .filter(Objects::nonNull)
+          .map(BlogUtils::blogPostSummaryToDTO)
+          .toList());
+    }
+    return builder.build();
+  }
+
+  /**
+   * Retrieves a blog post by its ID, served from the blogPostById cache when
+   * present. updateBlog and deleteBlog evict the entry once their transaction
+   * commits, every caller gets its own copy of the cached post.
+   *
+   * A miss is read from the primary, not the replica, so a lagging replica is
+   * never cached for the lifetime of the entry. A thread pinned to the primary
+   * after a write skips the cache and refreshes it with what it read.
    *
    * @param id the ID of the blog post
    * @return a DTO containing the blog post data
@@ -210,6 +742,12 @@ public class BlogPostServiceImpl implements BlogPostService {
    *
    */
   @Override
+  @Transactional
+  @Caching(
+      cacheable = @Cacheable(cacheNames = PostConstents.BLOG_POST_BY_ID_CACHE, key = "#id",
+          condition = "!" + PINNED_TO_PRIMARY),
+      put = @CachePut(cacheNames = PostConstents.BLOG_POST_BY_ID_CACHE, key = "#id",
+          condition = PINNED_TO_PRIMARY))
   public BlogPostDTO getBlogById(Long id) {
     Optional<BlogPost> blogOptional = blogPostRepo.findById(id);
     return blogOptional
@@ -218,25 +756,98 @@ public class BlogPostServiceImpl implements BlogPostService {
             "Blog Post not found may be unpublished id: " + id));
   }
 
+  /**
+   * Retrieves the version of a blog post for a conditional GET. A cached post
+   * answers without a query, otherwise only the version column is read, never
+   * the content. A client pinned to the primary skips the cache like it does in
+   * getBlogById.
+   *
+   * @param id the ID of the blog post
+   * @return the current version of the post
+   * @throws NotFoundException if the blog post with the given ID is not found
+   */
   @Override
-  public BlogPostDTO updateBlog(Long id, BlogPostRequest blog) {
+  @Transactional(readOnly = true)
+  public Long getBlogVersion(Long id) {
+    if (!ReplicaRoutingDataSource.isPinnedToPrimary()) {
+      Cache cache = cacheManager.getCache(PostConstents.BLOG_POST_BY_ID_CACHE);
+      BlogPostDTO cached = null != cache ? cache.get(id, BlogPostDTO.class) : null;
+      if (null != cached) {
+        return cached.getVersion();
+      }
+    }
+    return blogPostRepo.findVersionById(id)
+        .map(BlogPostVersion::getVersion)
+        .orElseThrow(() -> new NotFoundException(
+            "Blog Post not found may be unpublished id: " + id));
+  }
+
+  /**
+   * Updates a blog post without loading its content. The current state is read
+   * through the summary projection and the post is written by a single UPDATE
+   * that checks and bumps the version, so an edit that raced with another one is
+   * rejected instead of overwriting it.
+   *
+   * @param id      the ID of the blog post
+   * @param blog    the new values of the blog post
+   * @param ifMatch If-Match header of the request, the update is only applied
+   *                when it matches the current ETag, null to skip the check
+   * @return the updated blog post, carrying its new version
+   * @throws BadRequestException        if the new status is DELETED, deletes
+   *                                     go through deleteBlog
+   * @throws NotFoundException           if the blog post is not found
+   * @throws PreconditionFailedException if the post was modified since the
+   *                                     client read it
+   */
+  @Override
+  @Transactional
+  @CacheEvict(cacheNames = PostConstents.BLOG_POST_BY_ID_CACHE, key = "#id")
+  public BlogPostDTO updateBlog(Long id, BlogPostRequest blog, String ifMatch) {
+    if (BlogStatus.DELETED == blog.getStatus()) {
+      throw new BadRequestException("Blog status cannot be set to DELETED, delete the blog instead id: " + id);
+    }
     try {
-      Optional<BlogPost> blogOptional = blogPostRepo.findById(id);
-      if (!blogOptional.isPresent()) {
-        throw new NotFoundException(
-            "Blog Post not found may be unpublished id: " + id);
+      BlogPostSummary current = blogPostRepo.findSummaryById(id)
+          .orElseThrow(() -> new NotFoundException(
+              "Blog Post not found may be unpublished id: " + id));
+      String eTag = BlogUtils.getETag(id, current.getVersion());
+      // a client may hold the ETag of the gzip body of the same version
+      if (null != ifMatch && !Util.eTagMatchesStrong(ifMatch, eTag)
+          && !Util.eTagMatchesStrong(ifMatch, BlogUtils.getGzipETag(eTag))) {
+        throw new PreconditionFailedException(
+            "Blog Post was modified, current ETag is " + eTag);
       }
-      BlogPost blogPost = blogOptional.get();
-      BlogUtils.setAuditField(blogPost);
-      blogPost.setId(id);
-      blogPost.setTitle(blog.getTitle());
-      blogPost.setDescription(blog.getDescription());
-      blogPost.setContent(blog.getContent());
-      blogPost.setImageUrl(blog.getImageUrl());
-      blogPost.setStatus(blog.getStatus());
+      BlogPost blogPost = BlogPost.builder()
+          .id(id)
+          .title(blog.getTitle())
+          .description(blog.getDescription())
+          .content(blog.getContent())
+          .imageUrl(blog.getImageUrl())
+          .status(blog.getStatus())
+          .createdBy(current.getCreatedBy())
+          .createdAt(current.getCreatedAt())
+          .version(current.getVersion())
+          .build();
       BlogUtils.setAuditField(blogPost);
-      blogPostRepo.save(blogPost);
+      if (0 == blogPostRepo.updatePost(blogPost)) {
+        if (!blogPostRepo.existsById(id)) {
+          throw new NotFoundException("Blog Post not found may be unpublished id: " + id);
+        }
+        throw new OptimisticLockingFailureException("version " + current.getVersion() + " is stale");
+      }
+      blogPost.setVersion(current.getVersion() + 1);
+      if (current.getStatus() != blogPost.getStatus()) {
+        blogPostCountRepo.increment(blogPost.getCreatedBy(), current.getStatus(), -1);
+        blogPostCountRepo.increment(blogPost.getCreatedBy(), blogPost.getStatus(), 1);
+      }
+      blogTitleIndex.add(blogPost.getTitle());
+      blogSearchIndex.indexAfterCommit(blogPost);
+      blogPostChangeStream.publishAfterCommit(BlogPostChangeType.UPDATED, blogPost);
       return BlogUtils.blogPostToDTO(blogPost);
+    } catch (OptimisticLockingFailureException e) {
+      log.warn("Concurrent update of blog {}. {}", id, e.getMessage());
+      throw new PreconditionFailedException(
+          "Blog Post was modified concurrently, reload it and retry id: " + id);
     } catch (DataIntegrityViolationException e) {
       log.error("Data integrity violation while updating blog. {}", e.getMessage());
       throw new CustomDataIntegrityViolationException(
@@ -244,9 +855,26 @@ public class BlogPostServiceImpl implements BlogPostService {
     }
   }
 
+  /**
+   * Soft deletes a blog post without loading it, the status becomes DELETED and
+   * the post disappears from every list and get. BlogPostPurgeJob removes the row
+   * later. The post count is adjusted from the post row before the status flip,
+   * both statements roll back together when the post does not exist.
+   *
+   * @param id the ID of the blog post
+   * @throws NotFoundException if the blog post is not found or already deleted
+   */
   @Override
+  @Transactional
+  @CacheEvict(cacheNames = PostConstents.BLOG_POST_BY_ID_CACHE, key = "#id")
   public void deleteBlog(Long id) {
-    Optional<BlogPost> blogOptional = blogPostRepo.findById(id);
-    blogOptional.ifPresent(blogPostRepo::delete);
+    BlogPost blogPost = BlogPost.builder().id(id).build();
+    BlogUtils.setAuditField(blogPost);
+    blogPostCountRepo.decrementForPost(id);
+    if (0 == blogPostRepo.markDeleted(blogPost)) {
+      throw new NotFoundException("Blog Post not found may be unpublished id: " + id);
+    }
+    blogSearchIndex.removeAfterCommit(id);
+    blogPostChangeStream.publishAfterCommit(BlogPostChangeType.DELETED, blogPost);
   }
 }
@@ -0,0 +1,178 @@
+package com.nk.blog.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nk.blog.constants.PostConstents;
+import com.nk.blog.dto.BlogPostBulkItemDTO;
+import com.nk.blog.dto.BlogPostBulkResultDTO;
+import com.nk.blog.dto.BlogPostRequest;
+import com.nk.blog.enums.BulkItemStatus;
+import com.nk.blog.exception.CustomDataIntegrityViolationException;
+import com.nk.blog.model.BlogPost;
+import com.nk.blog.repo.BlogPostRepo;
+import com.nk.blog.service.BlogPostService;
+import com.nk.blog.service.BlogPostTransferService;
+import com.nk.blog.utils.BlogUtils;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class BlogPostTransferServiceImpl implements BlogPostTransferService {
+
+  private final BlogPostRepo blogPostRepo;
+
+  private final BlogPostService blogPostService;
+
+  private final EntityManager entityManager;
+
+  private final ObjectMapper objectMapper;
+
+  private final int importBatchSize;
+
+  public BlogPostTransferServiceImpl(BlogPostRepo blogPostRepo, BlogPostService blogPostService,
+      EntityManager entityManager, ObjectMapper objectMapper,
+      @Value("${blog.import.batch-size:500}") int importBatchSize) {
+    this.blogPostRepo = blogPostRepo;
+    this.blogPostService = blogPostService;
+    this.entityManager = entityManager;
+    this.objectMapper = objectMapper;
+    this.importBatchSize = Math.max(1, Math.min(importBatchSize, PostConstents.MAX_BULK_SIZE));
+  }
+
+  /**
+   * Writes every blog post as newline delimited JSON. Rows come from a single
+   * database cursor and are detached once written, so the heap footprint does
+   * not grow with the table.
+   *
+   * @param outputStream stream to write to, left open
+   * @return the number of exported blog posts
+   * @throws IOException if writing to the stream fails
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public long exportBlogs(OutputStream outputStream) throws IOException {
+    long exported = 0;
+    try (Stream<BlogPost> blogPosts = blogPostRepo.streamAllBy();
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      Iterator<BlogPost> iterator = blogPosts.iterator();
+      while (iterator.hasNext()) {
+        BlogPost blogPost = iterator.next();
+        generator.writeObject(BlogUtils.blogPostToDTO(blogPost));
+        generator.writeRaw('\n');
+        entityManager.detach(blogPost);
+        exported++;
+      }
+      generator.flush();
+    }
+    log.info("Exported {} blog posts", exported);
+    return exported;
+  }
+
+  /**
+   * Reads newline delimited blog post requests one value at a time and hands
+   * them to {@link BlogPostService#bulkCreateBlogs(List)} in batches, so each
+   * batch commits in its own transaction and only one batch is held in memory.
+   * Lines that cannot be mapped are reported and skipped, malformed JSON stops
+   * the import since the parser cannot resynchronise after it.
+   *
+   * @param inputStream NDJSON body, one blog post request per line
+   * @return created and failed counts, results only list the failed lines with
+   *         the 1 based line number as index
+   * @throws IOException if reading the stream fails
+   */
+  @Override
+  public BlogPostBulkResultDTO importBlogs(InputStream inputStream) throws IOException {
+    List<BlogPostBulkItemDTO> failures = new ArrayList<>();
+    List<BlogPostRequest> batch = new ArrayList<>(importBatchSize);
+    List<Integer> batchLines = new ArrayList<>(importBatchSize);
+    int created = 0;
+    int failed = 0;
+    try (MappingIterator<BlogPostRequest> requests = objectMapper.readerFor(BlogPostRequest.class)
+        .readValues(inputStream)) {
+      while (true) {
+        int line = requests.getCurrentLocation().getLineNr();
+        try {
+          if (!requests.hasNextValue()) {
+            break;
+          }
+          line = requests.getCurrentLocation().getLineNr();
+          batch.add(requests.nextValue());
+          batchLines.add(line);
+        } catch (DatabindException e) {
+          failures.add(importFailure(line, "Invalid blog post: " + e.getOriginalMessage()));
+          failed++;
+          continue;
+        } catch (StreamReadException e) {
+          failures.add(importFailure(line, "Malformed JSON, import stopped: " + e.getOriginalMessage()));
+          failed++;
+          break;
+        }
+        if (batch.size() == importBatchSize) {
+          int batchCreated = importBatch(batch, batchLines, failures);
+          created += batchCreated;
+          failed += batch.size() - batchCreated;
+          batch = new ArrayList<>(importBatchSize);
+          batchLines = new ArrayList<>(importBatchSize);
+        }
+      }
+    }
+    if (!batch.isEmpty()) {
+      int batchCreated = importBatch(batch, batchLines, failures);
+      created += batchCreated;
+      failed += batch.size() - batchCreated;
+    }
+    log.info("Imported {} blog posts, {} failed", created, failed);
+    return BlogPostBulkResultDTO.builder()
+        .created(created)
+        .failed(failed)
+        .results(failures)
+        .build();
+  }
+
+  private int importBatch(List<BlogPostRequest> batch, List<Integer> batchLines, List<BlogPostBulkItemDTO> failures) {
+    try {
+      BlogPostBulkResultDTO result = blogPostService.bulkCreateBlogs(batch);
+      result.getResults().stream()
+          .filter(item -> BulkItemStatus.FAILED == item.getStatus())
+          .forEach(item -> {
+            item.setIndex(batchLines.get(item.getIndex()));
+            failures.add(item);
+          });
+      return result.getCreated();
+    } catch (CustomDataIntegrityViolationException e) {
+      log.error("Failed to import batch starting at line {}: {}", batchLines.get(0), e.getMessage());
+      for (int i = 0; i < batch.size(); i++) {
+        BlogPostBulkItemDTO failure = importFailure(batchLines.get(i), e.getMessage());
+        failure.setTitle(null != batch.get(i) ? batch.get(i).getTitle() : null);
+        failures.add(failure);
+      }
+      return 0;
+    }
+  }
+
+  private BlogPostBulkItemDTO importFailure(int line, String message) {
+    return BlogPostBulkItemDTO.builder()
+        .index(line)
+        .status(BulkItemStatus.FAILED)
+        .message(message)
+        .build();
+  }
+}
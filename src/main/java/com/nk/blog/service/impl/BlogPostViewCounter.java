@@ -0,0 +1,87 @@
+package com.nk.blog.service.impl;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.nk.blog.repo.BlogPostViewRepo;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Counts post views in memory and writes them to blog_post_view in batches.
+ * A read only bumps a LongAdder, which stripes concurrent increments of a hot
+ * post over several cells instead of contending on one value or row. The
+ * flusher sends the aggregated delta of every viewed post on an interval and
+ * at shutdown, views of an instance that dies in between are lost. The adder
+ * of a post that was not viewed for a whole interval is removed, so only posts
+ * viewed recently are held. A record() that still holds a removed adder moves
+ * its view to the current one, and the flush drains a removed adder once more,
+ * so a view racing the removal is counted exactly once.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BlogPostViewCounter {
+
+    private final BlogPostViewRepo blogPostViewRepo;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public void record(Long postId) {
+        LongAdder adder = pending.computeIfAbsent(postId, id -> new LongAdder());
+        adder.increment();
+        while (adder != pending.get(postId)) {
+            long moved = adder.sumThenReset();
+            if (0 == moved) {
+                return;
+            }
+            adder = pending.computeIfAbsent(postId, id -> new LongAdder());
+            adder.add(moved);
+        }
+    }
+
+    /**
+     * @return stored views of the post plus the ones not flushed yet
+     */
+    public long getViewCount(Long postId) {
+        LongAdder buffered = pending.get(postId);
+        return blogPostViewRepo.findViewCount(postId) + (null != buffered ? buffered.sum() : 0L);
+    }
+
+    @Scheduled(initialDelayString = "${blog.view-count.flush-interval:PT10S}",
+            fixedDelayString = "${blog.view-count.flush-interval:PT10S}")
+    @PreDestroy
+    public synchronized void flush() {
+        Map<Long, Long> deltas = new TreeMap<>();
+        pending.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (0 == delta && pending.remove(postId, adder)) {
+                delta = adder.sumThenReset();
+            }
+            if (0 < delta) {
+                deltas.put(postId, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            blogPostViewRepo.addViews(deltas);
+        } catch (Exception e) {
+            log.error("Failed to flush {} blog post view counts, retrying with the next flush: {}",
+                    deltas.size(), e.getMessage());
+            deltas.forEach((postId, delta) -> pending.computeIfAbsent(postId, id -> new LongAdder()).add(delta));
+        }
+    }
+
+    int getPendingCount() {
+        return pending.size();
+    }
+}
@@ -0,0 +1,464 @@
+package com.nk.blog.service.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nk.blog.model.BlogPost;
+import com.nk.blog.repo.BlogPostRepo;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory inverted index over title, description and content of blog posts.
+ *
+ * Postings hold a field weighted term frequency per post and queries are ranked
+ * with BM25. The index is seeded from blog_post at startup and kept current by
+ * the create, update and delete paths of the service once their transaction
+ * commits.
+ *
+ * Every indexed version of a post gets a dense int slot, and the postings of a
+ * term are an int array of slots next to a char array of frequencies. Each slot
+ * also references the postings it was added to, so removing a post can keep the
+ * live count of its terms exact. That is about 10 bytes per (term, post) pair
+ * instead of a boxed map entry. A post keeps at most
+ * blog.search.max-terms-per-post distinct terms, the heaviest ones. At the
+ * default of 256 the live postings of a million posts take at most about 2.5 GB,
+ * spare array room and dead slots waiting for a sweep can add as much again,
+ * plus about 100 bytes per post and per distinct term. Removing or reindexing a post
+ * only marks its slot dead, dead slots are skipped by searches and swept out of
+ * the postings once they outnumber the live ones.
+ *
+ * A search walks the slot sorted postings of its terms side by side and scores
+ * one post at a time into a heap of offset + limit hits, so it allocates nothing
+ * per matching post.
+ */
+@Slf4j
+@Component
+public class BlogSearchIndex {
+
+    private static final double K1 = 1.2;
+
+    private static final double B = 0.75;
+
+    private static final int TITLE_WEIGHT = 3;
+
+    private static final int DESCRIPTION_WEIGHT = 2;
+
+    private static final int CONTENT_WEIGHT = 1;
+
+    private static final int MIN_TOKEN_LENGTH = 2;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final Set<String> STOP_WORDS = Set.of("a", "an", "and", "are", "as", "at", "be", "by", "for",
+            "from", "in", "is", "it", "of", "on", "or", "that", "the", "this", "to", "was", "with");
+
+    private final Map<String, Postings> postings = new HashMap<>();
+
+    // post id -> live slot
+    private final Map<Long, Integer> slots = new HashMap<>();
+
+    // slot -> post id and length, slots are handed out in order and reused only after a sweep
+    private long[] slotIds = new long[INITIAL_CAPACITY];
+
+    private int[] slotLengths = new int[INITIAL_CAPACITY];
+
+    // slot -> postings of the terms it was indexed under
+    private Postings[][] slotTerms = new Postings[INITIAL_CAPACITY][];
+
+    private final BitSet deadSlots = new BitSet();
+
+    private int slotCount;
+
+    private long totalLength;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final BlogPostRepo blogPostRepo;
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int maxTermsPerPost;
+
+    public BlogSearchIndex(BlogPostRepo blogPostRepo, EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            @Value("${blog.search.max-terms-per-post:256}") int maxTermsPerPost) {
+        this.blogPostRepo = blogPostRepo;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.maxTermsPerPost = maxTermsPerPost;
+    }
+
+    public record SearchHits(List<Long> ids, long total) {
+    }
+
+    /**
+     * Indexes every post in the database, streaming and detaching rows so the
+     * persistence context does not grow with the table.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LongAdder indexed = new LongAdder();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<BlogPost> blogPosts = blogPostRepo.streamAllBy()) {
+                blogPosts.forEach(blogPost -> {
+                    index(blogPost);
+                    entityManager.detach(blogPost);
+                    indexed.increment();
+                });
+            }
+        });
+        log.info("Blog search index built with {} posts", indexed);
+    }
+
+    public void index(BlogPost blogPost) {
+        index(blogPost.getId(), blogPost.getTitle(), blogPost.getDescription(), blogPost.getContent());
+    }
+
+    /**
+     * Indexes the post once the surrounding transaction commits, a rollback
+     * leaves the index as it was.
+     *
+     * @param blogPost the post as written
+     */
+    public void indexAfterCommit(BlogPost blogPost) {
+        Long id = blogPost.getId();
+        String title = blogPost.getTitle();
+        String description = blogPost.getDescription();
+        String content = blogPost.getContent();
+        afterCommit(() -> index(id, title, description, content));
+    }
+
+    /**
+     * Removes the post once the surrounding transaction commits.
+     */
+    public void removeAfterCommit(Long id) {
+        afterCommit(() -> remove(id));
+    }
+
+    /**
+     * Adds or replaces a post in the index.
+     */
+    public void index(Long id, String title, String description, String content) {
+        if (null == id) {
+            return;
+        }
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = accumulate(frequencies, title, TITLE_WEIGHT)
+                + accumulate(frequencies, description, DESCRIPTION_WEIGHT)
+                + accumulate(frequencies, content, CONTENT_WEIGHT);
+        List<Map.Entry<String, Integer>> terms = heaviest(frequencies, maxTermsPerPost);
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            int slot = newSlotLocked(id, length);
+            Postings[] indexedTerms = new Postings[terms.size()];
+            for (int i = 0; i < indexedTerms.length; i++) {
+                Map.Entry<String, Integer> term = terms.get(i);
+                indexedTerms[i] = postings.computeIfAbsent(term.getKey(), key -> new Postings());
+                indexedTerms[i].add(slot, term.getValue());
+            }
+            slotTerms[slot] = indexedTerms;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks posts matching any of the query terms.
+     *
+     * @param query  free text query
+     * @param offset number of hits to skip
+     * @param limit  maximum number of hits to return
+     * @return ids of the requested hits in rank order and the total number of hits
+     */
+    public SearchHits search(String query, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        lock.readLock().lock();
+        try {
+            int documentCount = slots.size();
+            if (terms.isEmpty() || documentCount == 0) {
+                return new SearchHits(Collections.emptyList(), 0);
+            }
+            double averageLength = (double) totalLength / documentCount;
+            List<Cursor> cursors = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Postings termPostings = postings.get(term);
+                if (null == termPostings || termPostings.live == 0) {
+                    continue;
+                }
+                int documentFrequency = termPostings.live;
+                double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                Cursor cursor = new Cursor(termPostings, idf);
+                cursor.skipDead(deadSlots);
+                cursors.add(cursor);
+            }
+            int wanted = limit <= 0 ? 0 : offset + limit;
+            PriorityQueue<Hit> heap = new PriorityQueue<>(Math.min(wanted, documentCount) + 1, Hit.BY_RANK);
+            long total = 0;
+            while (true) {
+                int slot = Integer.MAX_VALUE;
+                for (Cursor cursor : cursors) {
+                    slot = Math.min(slot, cursor.slot());
+                }
+                if (slot == Integer.MAX_VALUE) {
+                    break;
+                }
+                double normalizedLength = 1 - B + B * slotLengths[slot] / averageLength;
+                double score = 0;
+                for (Cursor cursor : cursors) {
+                    if (cursor.slot() == slot) {
+                        int frequency = cursor.frequency();
+                        score += cursor.idf * frequency * (K1 + 1) / (frequency + K1 * normalizedLength);
+                        cursor.position++;
+                        cursor.skipDead(deadSlots);
+                    }
+                }
+                total++;
+                if (wanted > 0) {
+                    heap.offer(new Hit(slotIds[slot], score));
+                    if (heap.size() > wanted) {
+                        heap.poll();
+                    }
+                }
+            }
+            return new SearchHits(ranked(heap, offset), total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (null == text) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (token.length() >= MIN_TOKEN_LENGTH && !STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static int accumulate(Map<String, Integer> frequencies, String text, int weight) {
+        List<String> tokens = tokenize(text);
+        tokens.forEach(token -> frequencies.merge(token, weight, Integer::sum));
+        return tokens.size() * weight;
+    }
+
+    // the weighted terms a post is indexed under, at most max of them
+    private static List<Map.Entry<String, Integer>> heaviest(Map<String, Integer> frequencies, int max) {
+        Stream<Map.Entry<String, Integer>> terms = frequencies.entrySet().stream();
+        if (frequencies.size() > max) {
+            terms = terms.sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.comparingByKey())).limit(max);
+        }
+        return terms.toList();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private int newSlotLocked(Long id, int length) {
+        if (slotCount == slotIds.length) {
+            slotIds = Arrays.copyOf(slotIds, slotCount * 2);
+            slotLengths = Arrays.copyOf(slotLengths, slotCount * 2);
+            slotTerms = Arrays.copyOf(slotTerms, slotCount * 2);
+        }
+        int slot = slotCount++;
+        slotIds[slot] = id;
+        slotLengths[slot] = length;
+        slots.put(id, slot);
+        totalLength += length;
+        return slot;
+    }
+
+    private void removeLocked(Long id) {
+        Integer slot = slots.remove(id);
+        if (null == slot) {
+            return;
+        }
+        deadSlots.set(slot);
+        totalLength -= slotLengths[slot];
+        for (Postings termPostings : slotTerms[slot]) {
+            termPostings.live--;
+        }
+        if (deadSlots.cardinality() > slots.size()) {
+            sweepLocked();
+        }
+    }
+
+    /*
+     * Drops dead slots from every posting list and renumbers the live ones in
+     * order, so each list stays sorted by slot.
+     */
+    private void sweepLocked() {
+        int[] renumbered = new int[slotCount];
+        int live = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (deadSlots.get(slot)) {
+                renumbered[slot] = -1;
+                continue;
+            }
+            renumbered[slot] = live;
+            slotIds[live] = slotIds[slot];
+            slotLengths[live] = slotLengths[slot];
+            slotTerms[live] = slotTerms[slot];
+            slots.put(slotIds[live], live);
+            live++;
+        }
+        Arrays.fill(slotTerms, live, slotCount, null);
+        postings.values().removeIf(termPostings -> termPostings.renumber(renumbered) == 0);
+        slotCount = live;
+        deadSlots.clear();
+    }
+
+    // drains the min heap of the best offset + limit hits into rank order and skips offset of them
+    private static List<Long> ranked(PriorityQueue<Hit> heap, int offset) {
+        if (offset >= heap.size()) {
+            return Collections.emptyList();
+        }
+        List<Long> ranked = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ranked.add(heap.poll().id());
+        }
+        Collections.reverse(ranked);
+        return ranked.subList(offset, ranked.size());
+    }
+
+    private record Hit(long id, double score) {
+
+        // lowest score first, ties broken by id so the ranking is stable
+        static final Comparator<Hit> BY_RANK = Comparator.comparingDouble(Hit::score).thenComparingLong(Hit::id);
+    }
+
+    // position of a search in the postings of one of its terms
+    private static final class Cursor {
+
+        private final Postings postings;
+
+        private final double idf;
+
+        private int position;
+
+        Cursor(Postings postings, double idf) {
+            this.postings = postings;
+            this.idf = idf;
+        }
+
+        int slot() {
+            return position < postings.size ? postings.slots[position] : Integer.MAX_VALUE;
+        }
+
+        int frequency() {
+            return postings.frequencies[position];
+        }
+
+        void skipDead(BitSet deadSlots) {
+            while (position < postings.size && deadSlots.get(postings.slots[position])) {
+                position++;
+            }
+        }
+    }
+
+    /*
+     * Slots of the posts a term occurs in, in ascending order, their weighted
+     * term frequencies and the number of slots that are not dead. A frequency
+     * above 65535 is capped, BM25 saturates long before that.
+     */
+    private static final class Postings {
+
+        private int[] slots = new int[2];
+
+        private char[] frequencies = new char[2];
+
+        private int size;
+
+        private int live;
+
+        void add(int slot, int frequency) {
+            if (size == slots.length) {
+                int capacity = size + (size >> 1) + 1;
+                slots = Arrays.copyOf(slots, capacity);
+                frequencies = Arrays.copyOf(frequencies, capacity);
+            }
+            slots[size] = slot;
+            frequencies[size] = (char) Math.min(frequency, Character.MAX_VALUE);
+            size++;
+            live++;
+        }
+
+        int renumber(int[] renumbered) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int slot = renumbered[slots[i]];
+                if (slot >= 0) {
+                    slots[kept] = slot;
+                    frequencies[kept] = frequencies[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            if (kept < slots.length / 4) {
+                slots = Arrays.copyOf(slots, Math.max(2, kept));
+                frequencies = Arrays.copyOf(frequencies, Math.max(2, kept));
+            }
+            return kept;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.nk.blog.service.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nk.blog.repo.BlogPostRepo;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory index of blog titles used to skip the database lookup on create.
+ *
+ * Membership is a bloom filter seeded from blog_post at startup and fed by the
+ * writes of this instance. A negative answer only means the title was not seen
+ * here, titles created by other instances since startup are missing. It skips
+ * the existence query, the unique index on title remains the check that counts
+ * and the service reports its violation as the same conflict. Deleted titles
+ * stay in the filter and only cost a fallback lookup. Titles being created on
+ * this instance right now are held in a reservation set so a concurrent create
+ * of the same title is rejected before it reaches the unique constraint.
+ */
+@Slf4j
+@Component
+public class BlogTitleIndex {
+
+    private final BlogPostRepo blogPostRepo;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLongArray bits;
+
+    private final int bitCount;
+
+    private final int hashCount;
+
+    private final Set<String> reservedTitles = ConcurrentHashMap.newKeySet();
+
+    // until the filter is seeded every title might exist
+    private volatile boolean ready;
+
+    public BlogTitleIndex(BlogPostRepo blogPostRepo,
+            PlatformTransactionManager transactionManager,
+            @Value("${blog.title-index.expected-titles:1000000}") int expectedTitles,
+            @Value("${blog.title-index.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.blogPostRepo = blogPostRepo;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        long optimalBits = (long) Math.ceil(-expectedTitles * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.max(Long.SIZE, Math.min(optimalBits, Integer.MAX_VALUE - Long.SIZE));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / Math.max(1, expectedTitles) * Math.log(2)));
+        this.bits = new AtomicLongArray((bitCount + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    /**
+     * Seeds the filter with every title in the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LongAdder seeded = new LongAdder();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<String> titles = blogPostRepo.streamAllTitles()) {
+                titles.forEach(title -> {
+                    add(title);
+                    seeded.increment();
+                });
+            }
+        });
+        ready = true;
+        log.info("Blog title index seeded with {} titles", seeded);
+    }
+
+    /**
+     * @param title blog title
+     * @return false if this instance has not seen the title
+     */
+    public boolean mightContain(String title) {
+        if (!ready || null == title) {
+            return true;
+        }
+        long hash = hash(title);
+        for (int i = 1; i <= hashCount; i++) {
+            int bit = bitIndex(hash, i);
+            if ((bits.get(bit / Long.SIZE) & (1L << (bit % Long.SIZE))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void add(String title) {
+        if (null == title) {
+            return;
+        }
+        long hash = hash(title);
+        for (int i = 1; i <= hashCount; i++) {
+            int bit = bitIndex(hash, i);
+            long mask = 1L << (bit % Long.SIZE);
+            int word = bit / Long.SIZE;
+            long current;
+            while (((current = bits.get(word)) & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                // retry until the bit is set by us or a concurrent writer
+            }
+        }
+    }
+
+    /**
+     * Reserves a title for the duration of a create.
+     *
+     * @param title blog title
+     * @return false if another request is creating the same title
+     */
+    public boolean tryReserve(String title) {
+        return null == title || reservedTitles.add(title);
+    }
+
+    public void release(String title) {
+        if (null != title) {
+            reservedTitles.remove(title);
+        }
+    }
+
+    /**
+     * Releases the titles once the surrounding transaction finishes, so they stay
+     * reserved until the rows are visible to other requests.
+     *
+     * @param titles reserved titles
+     */
+    public void releaseAfterCompletion(Collection<String> titles) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            titles.forEach(this::release);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                titles.forEach(BlogTitleIndex.this::release);
+            }
+        });
+    }
+
+    // double hashing, the odd step keeps the probes distinct
+    private int bitIndex(long hash, int i) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return Math.floorMod(h1 + i * h2, bitCount);
+    }
+
+    // 64 bit FNV-1a over the UTF-8 bytes, halves are used for double hashing
+    private static long hash(String title) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : title.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return hash ^ (hash >>> 29);
+    }
+}
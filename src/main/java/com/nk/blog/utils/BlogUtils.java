@@ -7,8 +7,10 @@ import com.nk.blog.constants.DateConstants;
 import com.nk.blog.constants.PostConstents;
 import com.nk.blog.dto.BlogPostDTO;
 import com.nk.blog.dto.BlogPostRequest;
+import com.nk.blog.dto.BlogPostSummaryDTO;
 import com.nk.blog.enums.BlogStatus;
 import com.nk.blog.model.BlogPost;
+import com.nk.blog.repo.BlogPostSummary;
 
 public interface BlogUtils {
 
@@ -28,6 +30,22 @@ public interface BlogUtils {
         .createdAt(blogPost.getCreatedAt())
         .lastUpdatedBy(blogPost.getLastUpdatedBy())
         .lastUpdatedAt(blogPost.getLastUpdatedAt())
+        .version(blogPost.getVersion())
+        .build();
+    }
+
+    public static BlogPostSummaryDTO blogPostSummaryToDTO(BlogPostSummary blogPostSummary) {
+        return BlogPostSummaryDTO.builder()
+        .id(blogPostSummary.getId())
+        .title(blogPostSummary.getTitle())
+        .description(blogPostSummary.getDescription())
+        .blogStatus(blogPostSummary.getStatus())
+        .imageUrl(blogPostSummary.getImageUrl())
+        .createdBy(blogPostSummary.getCreatedBy())
+        .createdAt(blogPostSummary.getCreatedAt())
+        .lastUpdatedBy(blogPostSummary.getLastUpdatedBy())
+        .lastUpdatedAt(blogPostSummary.getLastUpdatedAt())
+        .version(blogPostSummary.getVersion())
         .build();
     }
 
@@ -44,6 +62,7 @@ public interface BlogUtils {
         .createdAt(blogPostDto.getCreatedAt())
         .lastUpdatedBy(blogPostDto.getLastUpdatedBy())
         .lastUpdatedAt(blogPostDto.getLastUpdatedAt())
+        .version(blogPostDto.getVersion())
         .build();
     }
 
@@ -59,6 +78,28 @@ public interface BlogUtils {
     }
 
 
+    /**
+     * Strong validator for a blog post, changes whenever the post is updated.
+     *
+     * @param id      blog post id
+     * @param version optimistic lock version of the blog post, may be null
+     * @return quoted ETag value
+     */
+    public static String getETag(Long id, Long version) {
+        return "\"" + id + "-" + (null != version ? version : 0L) + "\"";
+    }
+
+    /**
+     * Strong validator of the gzip encoded body of a blog post. Its bytes differ
+     * from the identity body, so it needs an ETag of its own.
+     *
+     * @param eTag quoted ETag from getETag
+     * @return quoted ETag value
+     */
+    public static String getGzipETag(String eTag) {
+        return eTag.substring(0, eTag.length() - 1) + "-" + PostConstents.GZIP + "\"";
+    }
+
     public static void setAuditField(BlogPost blogPost) {
         if(blogPost.getId() == null) {
             blogPost.setCreatedBy(getCurrentUserId());
@@ -2,7 +2,9 @@ package com.nk.blog.utils;
 
 import static com.nk.blog.constants.DateConstants.*;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Base64;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -14,6 +16,14 @@ import com.nk.blog.exception.BadRequestException;
 
 public abstract class Util {
 
+    private static final String CURSOR_SEPARATOR = "|";
+
+    private static final String ID_FIELD = "id";
+
+    private static final String TITLE_FIELD = "title";
+
+    private static final String CREATED_BY_FIELD = "createdBy";
+
     private Util() {
     }
 
@@ -41,11 +51,32 @@ public abstract class Util {
         }
         if (sort.equals(PostConstents.NO_SORT) && sortBy.equals(PostConstents.NO_SORT)) {
             return PageRequest.of(page - 1, pageSize);
-        } else if (sort.equals(SortOrder.DESC.name())) {
-            return PageRequest.of(page - 1, pageSize, Sort.by(sortBy).descending());
+        }
+        // id breaks ties so rows with equal sort values keep their order across pages,
+        // ids and titles of live posts are unique and need none
+        Sort order = ID_FIELD.equals(sortBy) || TITLE_FIELD.equals(sortBy) ? Sort.by(sortBy) : Sort.by(sortBy, ID_FIELD);
+        if (sort.equals(SortOrder.DESC.name())) {
+            return PageRequest.of(page - 1, pageSize, order.descending());
         } else {
-            return PageRequest.of(page - 1, pageSize, Sort.by(sortBy).ascending());
+            return PageRequest.of(page - 1, pageSize, order.ascending());
+        }
+    }
+
+    /**
+     * Pageable for the posts of one author, the sort starts with created_by in
+     * the same direction. The order does not change, but H2 only reads a
+     * (created_by, ...) index in order when the order by names its first column.
+     *
+     * @param pageable pageable from {@link #getPageable}
+     * @return Pageable object
+     */
+    public static Pageable getAuthorPageable(Pageable pageable) {
+        Sort.Order first = pageable.getSort().stream().findFirst().orElse(null);
+        if (null == first || CREATED_BY_FIELD.equals(first.getProperty())) {
+            return pageable;
         }
+        Sort sort = Sort.by(new Sort.Order(first.getDirection(), CREATED_BY_FIELD)).and(pageable.getSort());
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
     }
 
     public static PagePageSizeRecord getResult(Integer page, Integer pageSize) {
@@ -59,6 +90,125 @@ public abstract class Util {
     public record PagePageSizeRecord(Integer page, Integer pageSize) {
     }
 
+    /**
+     * util method to build the opaque continuation token for keyset pagination.
+     *
+     * @param createdAt created at of the last row of the page
+     * @param id        id of the last row of the page
+     * @return url safe cursor string
+     */
+    public static String encodeCursor(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + CURSOR_SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * util method to read a cursor produced by {@link #encodeCursor(LocalDateTime, Long)}.
+     *
+     * @param cursor cursor string, null or blank for the first page
+     * @return decoded cursor or null for the first page
+     */
+    public static SeekCursorRecord decodeCursor(String cursor) {
+        if (null == cursor || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(CURSOR_SEPARATOR);
+            return new SeekCursorRecord(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor parameter: " + cursor);
+        }
+    }
+
+    public record SeekCursorRecord(LocalDateTime createdAt, Long id) {
+    }
+
+    /**
+     * util method to evaluate an If-None-Match header against the current ETag,
+     * using the weak comparison required for If-None-Match.
+     *
+     * @param ifNoneMatch value of the If-None-Match header, may be null
+     * @param eTag        current quoted ETag
+     * @return true if the client copy is still current
+     */
+    public static boolean eTagMatches(String ifNoneMatch, String eTag) {
+        if (null == ifNoneMatch || null == eTag) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*")) {
+                return true;
+            }
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * util method to evaluate an If-Match header against the current ETag, using
+     * the strong comparison required for If-Match. Weak tags never match.
+     *
+     * @param ifMatch value of the If-Match header, may be null
+     * @param eTag    current quoted strong ETag
+     * @return true if the client based its change on the current representation
+     */
+    public static boolean eTagMatchesStrong(String ifMatch, String eTag) {
+        if (null == ifMatch || null == eTag || eTag.startsWith("W/")) {
+            return false;
+        }
+        for (String candidate : ifMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * util method to check whether an Accept-Encoding header allows a content coding.
+     *
+     * @param acceptEncoding value of the Accept-Encoding header, may be null
+     * @param coding         content coding, e.g. gzip
+     * @return true if the coding is listed, or matched by *, without q=0
+     */
+    public static boolean acceptsEncoding(String acceptEncoding, String coding) {
+        if (null == acceptEncoding) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.trim().split(";");
+            String name = parts[0].trim();
+            boolean accepted = true;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        accepted = Double.parseDouble(parameter.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        accepted = false;
+                    }
+                }
+            }
+            if (name.equalsIgnoreCase(coding)) {
+                return accepted;
+            }
+            if (name.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return wildcard;
+    }
+
     public static LocalDateTime getCurrentTimestamp() {
         return LocalDateTime.now(DEFAULT_ZONEID);
     }
@@ -0,0 +1,4 @@
+/* A soft deleted post gives up its title, it moves to deleted_title so unique(title) only holds live posts */
+alter table `blog_post` add column `deleted_title` varchar(255);
+alter table `blog_post` alter column `title` set null;
+update `blog_post` set `deleted_title` = `title`, `title` = null where `status` = 'DELETED';
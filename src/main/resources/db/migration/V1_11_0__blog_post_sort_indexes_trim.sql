@@ -0,0 +1,7 @@
+/* unique(title) already keeps titles in order and live titles are unique, a title sort needs no id tiebreaker */
+drop index `idx_blog_post_title_id`;
+drop index `idx_blog_post_title_id_desc`;
+/* H2 does not scan an index backwards */
+create index `idx_blog_post_title_desc` on `blog_post` (`title` desc);
+/* Author listings order by created_by first, the descending created_at sort of an author needs its own index */
+create index `idx_blog_post_created_by_created_at_id_desc` on `blog_post` (`created_by` desc, `created_at` desc, `id` desc);
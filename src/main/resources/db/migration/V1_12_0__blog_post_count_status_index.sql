@@ -0,0 +1,2 @@
+/* Totals over all authors read per status entries of this index, the primary key starts with created_by */
+create index `idx_blog_post_count_status` on `blog_post_count` (`status`, `post_count`);
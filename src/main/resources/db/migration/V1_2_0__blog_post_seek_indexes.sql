@@ -0,0 +1,3 @@
+/* Indexes backing keyset (seek) pagination ordered by (created_at, id) */
+create index `idx_blog_post_created_at_id` on `blog_post` (`created_at`, `id`);
+create index `idx_blog_post_created_by_created_at_id` on `blog_post` (`created_by`, `created_at`, `id`);
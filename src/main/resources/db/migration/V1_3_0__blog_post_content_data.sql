@@ -0,0 +1,2 @@
+/* Column for blog post content encoded by BlogContentCodec, filled by V1_3_1 */
+alter table `blog_post` add column `content_data` blob;
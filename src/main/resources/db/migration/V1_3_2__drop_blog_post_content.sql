@@ -0,0 +1,3 @@
+/* Every row has been copied to content_data by V1_3_1 */
+alter table `blog_post` drop column `content`;
+alter table `blog_post` alter column `content_data` set not null;
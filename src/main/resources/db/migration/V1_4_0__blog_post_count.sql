@@ -0,0 +1,10 @@
+/* Post counts per author and status, kept up to date by the service and reconciled periodically */
+create table `blog_post_count` (
+   `created_by` bigint not null,
+   `status` VARCHAR(10) not null,
+   `post_count` bigint not null,
+   primary key (`created_by`, `status`)
+);
+
+insert into `blog_post_count` (`created_by`, `status`, `post_count`)
+select coalesce(`created_by`, 0), `status`, count(*) from `blog_post` group by coalesce(`created_by`, 0), `status`;
@@ -0,0 +1,4 @@
+/* Indexes backing filtered listings, equality columns first so a status or author feed is a range scan in (created_at, id) order */
+create index `idx_blog_post_status_created_at_id` on `blog_post` (`status`, `created_at`, `id`);
+create index `idx_blog_post_created_by_status_created_at_id` on `blog_post` (`created_by`, `status`, `created_at`, `id`);
+create index `idx_blog_post_last_updated_at_id` on `blog_post` (`last_updated_at`, `id`);
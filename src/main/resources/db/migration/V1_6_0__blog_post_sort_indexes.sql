@@ -0,0 +1,9 @@
+/* Indexes backing sorted pages, every sort ends with the id tiebreaker. */
+create index `idx_blog_post_created_by_id` on `blog_post` (`created_by`, `id`);
+create index `idx_blog_post_title_id` on `blog_post` (`title`, `id`);
+/* H2 does not scan an index backwards, descending sorts need their own index */
+create index `idx_blog_post_created_at_id_desc` on `blog_post` (`created_at` desc, `id` desc);
+create index `idx_blog_post_created_by_id_desc` on `blog_post` (`created_by` desc, `id` desc);
+create index `idx_blog_post_last_updated_at_id_desc` on `blog_post` (`last_updated_at` desc, `id` desc);
+create index `idx_blog_post_title_id_desc` on `blog_post` (`title` desc, `id` desc);
+create index `idx_blog_post_id_desc` on `blog_post` (`id` desc);
@@ -0,0 +1,2 @@
+/* Optimistic lock version of blog posts, updates compare and bump it in the same statement */
+alter table `blog_post` add column `version` bigint default 0 not null;
@@ -0,0 +1,2 @@
+/* Backs the purge of soft deleted posts, the oldest DELETED rows are a range scan at the start of the index */
+create index `idx_blog_post_status_last_updated_at_id` on `blog_post` (`status`, `last_updated_at`, `id`);
@@ -0,0 +1,7 @@
+/* View counts per post, kept apart from blog_post so counting views never locks or versions the post row */
+create table `blog_post_view` (
+   `post_id` bigint not null,
+   `view_count` bigint not null,
+   primary key (`post_id`),
+   foreign key (`post_id`) references `blog_post` (`id`) on delete cascade
+);
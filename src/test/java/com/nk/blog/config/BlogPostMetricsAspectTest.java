@@ -0,0 +1,118 @@
+package com.nk.blog.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.nk.blog.enums.BlogPostShortBy;
+import com.nk.blog.enums.BlogPostView;
+import com.nk.blog.enums.SortOrder;
+import com.nk.blog.exception.NotFoundException;
+import com.nk.blog.repo.BlogPostCountRepo;
+import com.nk.blog.repo.BlogPostRepo;
+import com.nk.blog.service.BlogPostService;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BlogPostMetricsAspectTest {
+
+        private SimpleMeterRegistry meterRegistry;
+
+        private BlogPostService blogPostService;
+
+        private BlogPostService timedBlogPostService;
+
+        private BlogPostRepo blogPostRepo;
+
+        private BlogPostRepo timedBlogPostRepo;
+
+        @BeforeEach
+        void setUp() {
+                meterRegistry = new SimpleMeterRegistry();
+                BlogPostMetricsAspect aspect = new BlogPostMetricsAspect(meterRegistry);
+                blogPostService = mock(BlogPostService.class);
+                blogPostRepo = mock(BlogPostRepo.class);
+                timedBlogPostService = proxy(blogPostService, aspect);
+                timedBlogPostRepo = proxy(blogPostRepo, aspect);
+        }
+
+        private static <T> T proxy(T target, BlogPostMetricsAspect aspect) {
+                AspectJProxyFactory factory = new AspectJProxyFactory(target);
+                factory.addAspect(aspect);
+                return factory.getProxy();
+        }
+
+        @Test
+        void testServiceCallIsTimedWithSortField() {
+                timedBlogPostService.getAllBlogs(1, 10, SortOrder.DESC, BlogPostShortBy.CREATED_AT, BlogPostView.FULL, null);
+
+                Timer timer = meterRegistry.get(BlogPostMetricsAspect.SERVICE_TIMER)
+                                .tag("type", "BlogPostService")
+                                .tag("operation", "getAllBlogs")
+                                .tag("sort_by", "createdAt")
+                                .tag("outcome", "success")
+                                .timer();
+                assertEquals(1, timer.count());
+        }
+
+        @Test
+        void testServiceFailureIsTaggedWithExceptionType() {
+                when(blogPostService.getBlogById(1L)).thenThrow(new NotFoundException("not found"));
+
+                assertThrows(NotFoundException.class, () -> timedBlogPostService.getBlogById(1L));
+
+                assertEquals(1, meterRegistry.get(BlogPostMetricsAspect.SERVICE_TIMER)
+                                .tag("operation", "getBlogById")
+                                .tag("sort_by", "none")
+                                .tag("outcome", "NotFoundException")
+                                .timer().count());
+        }
+
+        @Test
+        void testUnexpectedFailureIsTaggedUnexpected() {
+                when(blogPostService.getBlogById(1L)).thenThrow(new IllegalStateException("boom"));
+
+                assertThrows(IllegalStateException.class, () -> timedBlogPostService.getBlogById(1L));
+
+                assertEquals(1, meterRegistry.get(BlogPostMetricsAspect.SERVICE_TIMER)
+                                .tag("outcome", "unexpected").timer().count());
+        }
+
+        @Test
+        void testRepositoryCallIsTimedWithPageableSort() {
+                when(blogPostRepo.findAll(any(PageRequest.class))).thenReturn(Page.empty());
+
+                timedBlogPostRepo.findAll(PageRequest.of(0, 10, Sort.by("createdAt").descending()));
+                timedBlogPostRepo.findAll(PageRequest.of(0, 10));
+
+                assertEquals(1, meterRegistry.get(BlogPostMetricsAspect.REPOSITORY_TIMER)
+                                .tag("operation", "findAll").tag("sort_by", "createdAt").timer().count());
+                assertEquals(1, meterRegistry.get(BlogPostMetricsAspect.REPOSITORY_TIMER)
+                                .tag("operation", "findAll").tag("sort_by", "none").timer().count());
+        }
+
+        @Test
+        void testCountQueryIsTimed() {
+                NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+                when(jdbcTemplate.queryForObject(anyString(), anyMap(), eq(Long.class))).thenReturn(5L);
+                BlogPostCountRepo timedBlogPostCountRepo = proxy(new BlogPostCountRepo(jdbcTemplate),
+                                new BlogPostMetricsAspect(meterRegistry));
+
+                assertEquals(5L, timedBlogPostCountRepo.countAll());
+
+                assertEquals(1, meterRegistry.get(BlogPostMetricsAspect.REPOSITORY_TIMER)
+                                .tag("type", "BlogPostCountRepo")
+                                .tag("operation", "countAll")
+                                .tag("outcome", "success")
+                                .timer().count());
+        }
+}
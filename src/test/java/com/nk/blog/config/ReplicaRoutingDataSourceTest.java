@@ -0,0 +1,140 @@
+package com.nk.blog.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.nk.blog.constants.PostConstents;
+import com.nk.blog.dto.BlogPostDTO;
+import com.nk.blog.dto.BlogPostFilter;
+import com.nk.blog.dto.BlogPostListDTO;
+import com.nk.blog.dto.BlogPostRequest;
+import com.nk.blog.enums.BlogPostShortBy;
+import com.nk.blog.enums.BlogPostView;
+import com.nk.blog.enums.SortOrder;
+import com.nk.blog.service.BlogPostService;
+
+import jakarta.servlet.http.Cookie;
+
+/**
+ * Two in-memory H2 databases stand in for the primary and the replica. Nothing
+ * replicates between them, so a post is only visible through the database it
+ * was written to.
+ */
+@SpringBootTest(properties = {
+                "spring.datasource.url=jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1",
+                "blog.datasource.replica.jdbc-url=" + ReplicaRoutingDataSourceTest.REPLICA_URL,
+                "blog.datasource.replica.username=sa" })
+@AutoConfigureMockMvc
+class ReplicaRoutingDataSourceTest {
+
+        static final String REPLICA_URL = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1";
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private BlogPostService blogPostService;
+
+        @Autowired
+        private CacheManager cacheManager;
+
+        @Autowired
+        @Qualifier("replicaDataSource")
+        private DataSource replicaDataSource;
+
+        @BeforeAll
+        static void migrateReplica() {
+                Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+        }
+
+        @Test
+        void testReadOnlyCalls_ReadFromReplica_WritesGoToPrimary() throws Exception {
+                new JdbcTemplate(replicaDataSource).update("insert into blog_post (title, description, content_data, "
+                                + "status, version) values ('only on replica', 'description', 'content', 'DRAFT', 0)");
+
+                mockMvc.perform(post("/api/v1/blogs").contentType(MediaType.APPLICATION_JSON)
+                                .content(request("only on primary")));
+
+                String list = mockMvc.perform(get("/api/v1/blogs").param("view", "SUMMARY"))
+                                .andReturn().getResponse().getContentAsString();
+                assertThat(list).contains("only on replica").doesNotContain("only on primary");
+        }
+
+        @Test
+        void testPinnedThread_ReadsFromPrimary() {
+                blogPostService.createBlog(BlogPostRequest.builder().title("pinned read")
+                                .description("description").content("content").build());
+
+                ReplicaRoutingDataSource.pinToPrimary();
+                try {
+                        BlogPostListDTO list = blogPostService.getAllBlogs(1, 100, SortOrder.ASC,
+                                        BlogPostShortBy.CREATED_AT, BlogPostView.SUMMARY, BlogPostFilter.builder().build());
+                        assertThat(list.getBlogPostList()).anyMatch(blog -> "pinned read".equals(blog.getTitle()));
+                } finally {
+                        ReplicaRoutingDataSource.unpin();
+                }
+        }
+
+        @Test
+        void testGetBlogById_FillsCacheFromPrimary_PinnedReadRefreshesIt() {
+                BlogPostDTO created = blogPostService.createBlog(BlogPostRequest.builder().title("cached from primary")
+                                .description("description").content("content").build());
+                // the replica still has the post as it was before the write
+                new JdbcTemplate(replicaDataSource).update("insert into blog_post (id, title, description, content_data, "
+                                + "status, version) values (?, 'lagging replica', 'description', 'content', 'DRAFT', 0)",
+                                created.getId());
+                Cache cache = cacheManager.getCache(PostConstents.BLOG_POST_BY_ID_CACHE);
+
+                assertThat(blogPostService.getBlogById(created.getId()).getTitle()).isEqualTo("cached from primary");
+                assertThat(cache.get(created.getId(), BlogPostDTO.class).getTitle()).isEqualTo("cached from primary");
+
+                cache.put(created.getId(), created.toBuilder().title("stale entry").build());
+                ReplicaRoutingDataSource.pinToPrimary();
+                try {
+                        assertThat(blogPostService.getBlogById(created.getId()).getTitle()).isEqualTo("cached from primary");
+                } finally {
+                        ReplicaRoutingDataSource.unpin();
+                }
+                assertThat(blogPostService.getBlogById(created.getId()).getTitle()).isEqualTo("cached from primary");
+        }
+
+        @Test
+        void testWrite_GivesReadYourWritesCookie() throws Exception {
+                MockHttpServletResponse created = mockMvc.perform(post("/api/v1/blogs")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(request("read your write")))
+                                .andReturn().getResponse();
+                Cookie cookie = created.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+                assertThat(cookie).isNotNull();
+                assertThat(created.getHeader(HttpHeaders.SET_COOKIE)).contains("Max-Age=5");
+
+                String withCookie = mockMvc.perform(get("/api/v1/blogs").param("view", "SUMMARY").cookie(cookie))
+                                .andReturn().getResponse().getContentAsString();
+                String withoutCookie = mockMvc.perform(get("/api/v1/blogs").param("view", "SUMMARY"))
+                                .andReturn().getResponse().getContentAsString();
+
+                assertThat(withCookie).contains("read your write");
+                assertThat(withoutCookie).doesNotContain("read your write");
+        }
+
+        private static String request(String title) {
+                return "{\"blog_title\":\"" + title + "\",\"blog_description\":\"description\",\"blog_content\":\"content\"}";
+        }
+}
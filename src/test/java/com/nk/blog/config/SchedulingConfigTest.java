@@ -0,0 +1,21 @@
+package com.nk.blog.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@SpringBootTest
+class SchedulingConfigTest {
+
+        @Autowired
+        private ThreadPoolTaskScheduler taskScheduler;
+
+        @Test
+        void testScheduler_HasAThreadPerJob() {
+                // purge, view flush, change stream heartbeat and count reconciliation
+                assertTrue(taskScheduler.getScheduledThreadPoolExecutor().getCorePoolSize() >= 4);
+        }
+}
@@ -0,0 +1,48 @@
+package com.nk.blog.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadPinningMonitorTest {
+
+        private final VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(1));
+
+        @AfterEach
+        void tearDown() {
+                monitor.stop();
+        }
+
+        @Test
+        void testPinnedVirtualThreadIsRecorded() throws Exception {
+                monitor.start();
+                assertTrue(monitor.isRunning());
+                Object lock = new Object();
+
+                Thread.ofVirtual().start(() -> {
+                        synchronized (lock) {
+                                try {
+                                        Thread.sleep(50);
+                                } catch (InterruptedException e) {
+                                        Thread.currentThread().interrupt();
+                                }
+                        }
+                }).join();
+
+                long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+                while (monitor.getPinnedEvents() == 0 && System.nanoTime() < deadline) {
+                        Thread.sleep(100);
+                }
+                assertTrue(monitor.getPinnedEvents() > 0);
+        }
+
+        @Test
+        void testStop() {
+                monitor.start();
+                monitor.stop();
+                assertFalse(monitor.isRunning());
+        }
+}
@@ -5,35 +5,55 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nk.blog.config.JacksonConfiguration;
+import com.nk.blog.constants.PostConstents;
 import com.nk.blog.constants.Testconstants;
+import com.nk.blog.dto.BlogPostBulkItemDTO;
+import com.nk.blog.dto.BlogPostBulkResultDTO;
 import com.nk.blog.dto.BlogPostDTO;
+import com.nk.blog.dto.BlogPostFilter;
 import com.nk.blog.dto.BlogPostListDTO;
 import com.nk.blog.dto.BlogPostRequest;
+import com.nk.blog.dto.BlogPostSummaryDTO;
 import com.nk.blog.dto.WebResponse;
 import com.nk.blog.enums.BlogPostShortBy;
+import com.nk.blog.enums.BlogPostView;
 import com.nk.blog.enums.BlogStatus;
+import com.nk.blog.enums.BulkItemStatus;
 import com.nk.blog.enums.SortOrder;
 import com.nk.blog.exception.CustomDataIntegrityViolationException;
 import com.nk.blog.exception.DataConflictException;
+import com.nk.blog.exception.PreconditionFailedException;
 import com.nk.blog.service.BlogPostService;
+import com.nk.blog.service.impl.BlogPostBodyCache;
+import com.nk.blog.service.impl.BlogPostChangeStream;
+import com.nk.blog.service.impl.BlogPostViewCounter;
+import com.nk.blog.utils.BlogUtils;
 
 @WebMvcTest(BlogPostController.class)
-@Import(JacksonConfiguration.class)
+@Import({ JacksonConfiguration.class, BlogPostBodyCache.class })
 class BlogPostControllerTest {
         @Autowired
         private MockMvc mockMvc;
@@ -44,6 +64,15 @@ class BlogPostControllerTest {
         @Autowired
         private ObjectMapper objectMapper;
 
+        @SpyBean
+        private BlogPostBodyCache blogPostBodyCache;
+
+        @MockBean
+        private BlogPostViewCounter blogPostViewCounter;
+
+        @MockBean
+        private BlogPostChangeStream blogPostChangeStream;
+
         private BlogPostListDTO blogPostListDTO;
 
         private BlogPostDTO blogPostDTO;
@@ -52,6 +81,7 @@ class BlogPostControllerTest {
 
         @BeforeEach
         void setup() {
+                blogPostBodyCache.clear();
                 blogPostDTO = BlogPostDTO.builder()
                                 .id(1L)
                                 .title("title")
@@ -63,6 +93,7 @@ class BlogPostControllerTest {
                                 .createdAt(Testconstants.DEFAULT_DATETIME)
                                 .lastUpdatedBy(0L)
                                 .lastUpdatedAt(Testconstants.DEFAULT_DATETIME)
+                                .version(0L)
                                 .build();
                 blogPostListDTO = BlogPostListDTO.builder()
                                 .blogPostList(List.of(blogPostDTO))
@@ -157,6 +188,37 @@ class BlogPostControllerTest {
                                 .isEqualTo(objectMapper.writeValueAsString(expectedWebResponse));
         }
 
+        /*
+         * ! ==========> POST /api/v1/blogs/bulk <==========
+         */
+        @Test
+        void testBulkCreateBlogs() throws Exception {
+                // Setup
+                BlogPostRequest request = BlogPostRequest.builder()
+                                .content("content")
+                                .description("description")
+                                .title("title")
+                                .build();
+                BlogPostBulkResultDTO result = BlogPostBulkResultDTO.builder()
+                                .created(1)
+                                .failed(0)
+                                .results(List.of(BlogPostBulkItemDTO.builder().index(0).id(1L).title("title")
+                                                .status(BulkItemStatus.CREATED).build()))
+                                .build();
+                when(mockScheduleService.bulkCreateBlogs(List.of(request))).thenReturn(result);
+                // Run the test
+                final MockHttpServletResponse response = mockMvc.perform(post("/api/v1/blogs/bulk")
+                                .content(objectMapper.writeValueAsString(List.of(request)))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andReturn().getResponse();
+
+                // Verify the results
+                assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+                assertThat(response.getContentAsString()).isEqualTo(objectMapper.writeValueAsString(
+                                WebResponse.<BlogPostBulkResultDTO>builder().data(result).build()));
+        }
+
         /*
          * ! ==========> GET /api/v1/blogs <==========
          */
@@ -164,7 +226,7 @@ class BlogPostControllerTest {
         void testGetAllBlogs() throws Exception {
 
                 when(mockScheduleService.getAllBlogs(anyInt(), anyInt(), any(SortOrder.class),
-                                any(BlogPostShortBy.class)))
+                                any(BlogPostShortBy.class), any(BlogPostView.class), any(BlogPostFilter.class)))
                                 .thenReturn(blogPostListDTO);
 
                 final MockHttpServletResponse response = mockMvc
@@ -173,13 +235,63 @@ class BlogPostControllerTest {
                                                 .accept(MediaType.APPLICATION_JSON))
                                 .andReturn().getResponse();
 
-                verify(mockScheduleService, times(1)).getAllBlogs(1, 10, SortOrder.ASC, BlogPostShortBy.CREATED_AT);
+                verify(mockScheduleService, times(1)).getAllBlogs(1, 10, SortOrder.ASC, BlogPostShortBy.CREATED_AT,
+                                BlogPostView.FULL, BlogPostFilter.builder().build());
                 // Verify the results
                 assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
                 assertThat(response.getContentAsString())
                                 .isEqualTo(objectMapper.writeValueAsString(webResponseForPagedResponse));
         }
 
+        @Test
+        void testGetAllBlogs_SummaryView() throws Exception {
+                BlogPostListDTO summaryList = BlogPostListDTO.builder()
+                                .blogPostList(List.of(BlogPostSummaryDTO.builder().id(1L).title("title").build()))
+                                .totalPages(1)
+                                .total(1L)
+                                .build();
+                when(mockScheduleService.getAllBlogs(any(), any(), any(SortOrder.class),
+                                any(BlogPostShortBy.class), any(BlogPostView.class), any(BlogPostFilter.class)))
+                                .thenReturn(summaryList);
+
+                final MockHttpServletResponse response = mockMvc
+                                .perform(get("/api/v1/blogs?view=SUMMARY")
+                                                .accept(MediaType.APPLICATION_JSON))
+                                .andReturn().getResponse();
+
+                verify(mockScheduleService, times(1)).getAllBlogs(null, null, SortOrder.ASC,
+                                BlogPostShortBy.CREATED_AT, BlogPostView.SUMMARY, BlogPostFilter.builder().build());
+                // Verify the results
+                assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+                assertThat(response.getContentAsString()).doesNotContain("blog_content");
+        }
+
+        @Test
+        void testGetAllBlogs_WithFilters() throws Exception {
+                when(mockScheduleService.getAllBlogs(any(), any(), any(SortOrder.class),
+                                any(BlogPostShortBy.class), any(BlogPostView.class), any(BlogPostFilter.class)))
+                                .thenReturn(blogPostListDTO);
+
+                final MockHttpServletResponse response = mockMvc
+                                .perform(get("/api/v1/blogs")
+                                                .param("status", "PUBLISHED")
+                                                .param("created_by", "5")
+                                                .param("created_from", "2024-01-01 00:00:00")
+                                                .param("updated_to", "2024-02-01 00:00:00")
+                                                .accept(MediaType.APPLICATION_JSON))
+                                .andReturn().getResponse();
+
+                verify(mockScheduleService, times(1)).getAllBlogs(null, null, SortOrder.ASC,
+                                BlogPostShortBy.CREATED_AT, BlogPostView.FULL, BlogPostFilter.builder()
+                                                .status(BlogStatus.PUBLISHED)
+                                                .createdBy(5L)
+                                                .createdFrom(LocalDateTime.of(2024, 1, 1, 0, 0))
+                                                .updatedTo(LocalDateTime.of(2024, 2, 1, 0, 0))
+                                                .build());
+                // Verify the results
+                assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        }
+
         /*
          * ! ==========> GET /api/v1/blogs/user <==========
          */
@@ -187,7 +299,7 @@ class BlogPostControllerTest {
         void testGetAllBlogsUser() throws Exception {
 
                 when(mockScheduleService.getAllBlogsCurrentUser(anyInt(), anyInt(), any(SortOrder.class),
-                                any(BlogPostShortBy.class)))
+                                any(BlogPostShortBy.class), any(BlogPostView.class), any(BlogPostFilter.class)))
                                 .thenReturn(blogPostListDTO);
 
                 final MockHttpServletResponse response = mockMvc
@@ -197,6 +309,98 @@ class BlogPostControllerTest {
                                 .andReturn().getResponse();
 
                 verify(mockScheduleService, times(1)).getAllBlogsCurrentUser(1, 10, SortOrder.ASC,
+                                BlogPostShortBy.CREATED_AT, BlogPostView.FULL, BlogPostFilter.builder().build());
+                // Verify the results
+                assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+                assertThat(response.getContentAsString())
+                                .isEqualTo(objectMapper.writeValueAsString(webResponseForPagedResponse));
+        }
+
+        /*
+         * ! ==========> GET /api/v1/blogs/slice <==========
+         */
+        @Test
+        void testGetAllBlogsBySlice() throws Exception {
+                blogPostListDTO.setHasNext(true);
+                when(mockScheduleService.getAllBlogsBySlice(anyInt(), anyInt(), any(SortOrder.class),
+                                any(BlogPostShortBy.class), any(BlogPostView.class)))
+                                .thenReturn(blogPostListDTO);
+
+                final MockHttpServletResponse response = mockMvc
+                                .perform(get("/api/v1/blogs/slice?page=2&page_size=10&view=SUMMARY")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .accept(MediaType.APPLICATION_JSON))
+                                .andReturn().getResponse();
+
+                verify(mockScheduleService, times(1)).getAllBlogsBySlice(2, 10, SortOrder.ASC,
+                                BlogPostShortBy.CREATED_AT, BlogPostView.SUMMARY);
+                // Verify the results
+                assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+                assertThat(response.getContentAsString()).contains("\"has_next\":true");
+        }
+
+        /*
+         * ! ==========> GET /api/v1/blogs/user/slice <==========
+         */
+        @Test
+        void testGetAllBlogsCurrentUserBySlice() throws Exception {
+                when(mockScheduleService.getAllBlogsCurrentUserBySlice(any(), any(), any(SortOrder.class),
+                                any(BlogPostShortBy.class), any(BlogPostView.class)))
+                                .thenReturn(blogPostListDTO);
+
+                final MockHttpServletResponse response = mockMvc
+                                .perform(get("/api/v1/blogs/user/slice")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .accept(MediaType.APPLICATION_JSON))
+                                .andReturn().getResponse();
+
+                verify(mockScheduleService, times(1)).getAllBlogsCurrentUserBySlice(null, null, SortOrder.ASC,
+                                BlogPostShortBy.CREATED_AT, BlogPostView.FULL);
+                // Verify the results
+                assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+                assertThat(response.getContentAsString())
+                                .isEqualTo(objectMapper.writeValueAsString(webResponseForPagedResponse));
+        }
+
+        /*
+         * ! ==========> GET /api/v1/blogs/seek <==========
+         */
+        @Test
+        void testGetAllBlogsByCursor() throws Exception {
+                blogPostListDTO.setNextCursor("next");
+                when(mockScheduleService.getAllBlogsByCursor(any(), anyInt(), any(SortOrder.class),
+                                any(BlogPostShortBy.class)))
+                                .thenReturn(blogPostListDTO);
+
+                final MockHttpServletResponse response = mockMvc
+                                .perform(get("/api/v1/blogs/seek?cursor=abc&page_size=10&sort_order=DESC")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .accept(MediaType.APPLICATION_JSON))
+                                .andReturn().getResponse();
+
+                verify(mockScheduleService, times(1)).getAllBlogsByCursor("abc", 10, SortOrder.DESC,
+                                BlogPostShortBy.CREATED_AT);
+                // Verify the results
+                assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+                assertThat(response.getContentAsString()).contains("\"next_cursor\":\"next\"");
+        }
+
+        /*
+         * ! ==========> GET /api/v1/blogs/user/seek <==========
+         */
+        @Test
+        void testGetAllBlogsCurrentUserByCursor() throws Exception {
+                when(mockScheduleService.getAllBlogsCurrentUserByCursor(any(), any(), any(SortOrder.class),
+                                any(BlogPostShortBy.class)))
+                                .thenReturn(blogPostListDTO);
+
+                final MockHttpServletResponse response = mockMvc
+                                .perform(get("/api/v1/blogs/user/seek")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .accept(MediaType.APPLICATION_JSON))
+                                .andReturn().getResponse();
+
+                verify(mockScheduleService, times(1)).getAllBlogsCurrentUserByCursor(null, null, SortOrder.ASC,
                                 BlogPostShortBy.CREATED_AT);
                 // Verify the results
                 assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
@@ -204,12 +408,32 @@ class BlogPostControllerTest {
                                 .isEqualTo(objectMapper.writeValueAsString(webResponseForPagedResponse));
         }
 
+        /*
+         * ! ==========> GET /api/v1/blogs/search <==========
+         */
+        @Test
+        void testSearchBlogs() throws Exception {
+                when(mockScheduleService.searchBlogs(anyString(), any(), any())).thenReturn(blogPostListDTO);
+
+                final MockHttpServletResponse response = mockMvc
+                                .perform(get("/api/v1/blogs/search?q=java streams&page=2")
+                                                .accept(MediaType.APPLICATION_JSON))
+                                .andReturn().getResponse();
+
+                verify(mockScheduleService, times(1)).searchBlogs("java streams", 2, null);
+                // Verify the results
+                assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+                assertThat(response.getContentAsString())
+                                .isEqualTo(objectMapper.writeValueAsString(webResponseForPagedResponse));
+        }
+
         /*
          * ! ==========> GET /api/v1/blogs/{id} <==========
          */
         @Test
         void testGetBlogById() throws Exception {
-                WebResponse<BlogPostDTO> expectedWebResponse = WebResponse.<BlogPostDTO>builder().data(blogPostDTO)
+                WebResponse<BlogPostDTO> expectedWebResponse = WebResponse.<BlogPostDTO>builder()
+                                .data(blogPostDTO)
                                 .build();
 
                 when(mockScheduleService.getBlogById(anyLong())).thenReturn(blogPostDTO);
@@ -220,12 +444,131 @@ class BlogPostControllerTest {
                                 .andReturn().getResponse();
 
                 verify(mockScheduleService, times(1)).getBlogById(anyLong());
+                verify(blogPostViewCounter, times(1)).record(1L);
+                // the count is not part of the post body
+                verify(blogPostViewCounter, never()).getViewCount(anyLong());
                 // Verify the results
                 assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+                assertThat(response.getHeader(HttpHeaders.ETAG))
+                                .isEqualTo(BlogUtils.getETag(1L, 0L));
                 assertThat(response.getContentAsString())
                                 .isEqualTo(objectMapper.writeValueAsString(expectedWebResponse));
         }
 
+        @Test
+        void testGetBlogById_IfNoneMatchCurrent_ReturnsNotModified() throws Exception {
+                String eTag = BlogUtils.getETag(1L, 0L);
+                when(mockScheduleService.getBlogVersion(1L)).thenReturn(0L);
+
+                final MockHttpServletResponse response = mockMvc.perform(get("/api/v1/blogs/1")
+                                .header(HttpHeaders.IF_NONE_MATCH, "W/" + eTag)
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andReturn().getResponse();
+
+                // answered from the version alone, the post with its content is not loaded
+                verify(mockScheduleService, never()).getBlogById(anyLong());
+                // a revalidated copy is still a view
+                verify(blogPostViewCounter, times(1)).record(1L);
+                // Verify the results
+                assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+                assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(eTag);
+                assertThat(response.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+                assertThat(response.getContentAsString()).isEmpty();
+        }
+
+        @Test
+        void testGetBlogById_IfNoneMatchGzipTag_ReturnsNotModified() throws Exception {
+                when(mockScheduleService.getBlogVersion(1L)).thenReturn(0L);
+
+                final MockHttpServletResponse response = mockMvc.perform(get("/api/v1/blogs/1")
+                                .header(HttpHeaders.IF_NONE_MATCH, "\"1-0-gzip\"")
+                                .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                                .andReturn().getResponse();
+
+                // Verify the results
+                assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+                assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"1-0-gzip\"");
+                assertThat(response.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        @Test
+        void testGetBlogById_IfNoneMatchStale_ReturnsPost() throws Exception {
+                blogPostDTO.setVersion(1L);
+                when(mockScheduleService.getBlogVersion(1L)).thenReturn(1L);
+                when(mockScheduleService.getBlogById(1L)).thenReturn(blogPostDTO);
+
+                final MockHttpServletResponse response = mockMvc.perform(get("/api/v1/blogs/1")
+                                .header(HttpHeaders.IF_NONE_MATCH, "\"1-0\"")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andReturn().getResponse();
+
+                // Verify the results
+                assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+                assertThat(response.getContentAsString())
+                                .isEqualTo(objectMapper.writeValueAsString(
+                                                WebResponse.<BlogPostDTO>builder().data(blogPostDTO).build()));
+        }
+
+        @Test
+        void testGetBlogById_HotPost_ServedFromEncodedBody() throws Exception {
+                String eTag = BlogUtils.getETag(1L, 0L);
+                when(mockScheduleService.getBlogById(1L)).thenReturn(blogPostDTO);
+
+                final MockHttpServletResponse first = mockMvc.perform(get("/api/v1/blogs/1"))
+                                .andReturn().getResponse();
+                final MockHttpServletResponse second = mockMvc.perform(get("/api/v1/blogs/1"))
+                                .andReturn().getResponse();
+
+                verify(mockScheduleService, times(2)).getBlogById(1L);
+                // the second request is answered with the body encoded for the first
+                verify(blogPostBodyCache, times(1)).put(eq(eTag), any());
+                assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+                assertThat(second.getHeader(HttpHeaders.ETAG)).isEqualTo(eTag);
+        }
+
+        @Test
+        void testGetBlogById_AcceptsGzip_ReturnsGzipBody() throws Exception {
+                blogPostDTO.setContent("long content ".repeat(200));
+                when(mockScheduleService.getBlogById(1L)).thenReturn(blogPostDTO);
+
+                final MockHttpServletResponse gzipped = mockMvc.perform(get("/api/v1/blogs/1")
+                                .header(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8"))
+                                .andReturn().getResponse();
+                final MockHttpServletResponse identity = mockMvc.perform(get("/api/v1/blogs/1")
+                                .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+                                .andReturn().getResponse();
+
+                // Verify the results
+                assertThat(gzipped.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+                // the encodings differ in bytes, so they carry different strong ETags
+                assertThat(gzipped.getHeader(HttpHeaders.ETAG)).isEqualTo("\"1-0-gzip\"");
+                assertThat(identity.getHeader(HttpHeaders.ETAG)).isEqualTo("\"1-0\"");
+                assertThat(gzipped.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+                try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getContentAsByteArray()))) {
+                        assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8))
+                                        .isEqualTo(identity.getContentAsString());
+                }
+                assertThat(identity.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+                assertThat(identity.getContentAsString()).isEqualTo(objectMapper.writeValueAsString(
+                                WebResponse.<BlogPostDTO>builder().data(blogPostDTO).build()));
+        }
+
+        @Test
+        void testGetBlogViewCount() throws Exception {
+                when(blogPostViewCounter.getViewCount(1L)).thenReturn(42L);
+
+                final MockHttpServletResponse response = mockMvc.perform(get("/api/v1/blogs/1/views")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andReturn().getResponse();
+
+                // reading the count is not a view
+                verify(blogPostViewCounter, never()).record(anyLong());
+                // Verify the results
+                assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+                assertThat(response.getContentAsString())
+                                .isEqualTo(objectMapper.writeValueAsString(WebResponse.<Long>builder().data(42L).build()));
+        }
+
         /*
          * ! ==========> PUT /api/v1/blogs <==========
          */
@@ -240,7 +583,7 @@ class BlogPostControllerTest {
                                 .status(BlogStatus.DRAFT)
                                 .id(1L)
                                 .build();
-                when(mockScheduleService.updateBlog(1L, request))
+                when(mockScheduleService.updateBlog(1L, request, null))
                                 .thenReturn(blogPostDTO);
                 WebResponse<BlogPostDTO> expectedWebResponse = WebResponse.<BlogPostDTO>builder().data(blogPostDTO)
                                 .build();
@@ -257,6 +600,60 @@ class BlogPostControllerTest {
                                 .isEqualTo(objectMapper.writeValueAsString(expectedWebResponse));
         }
 
+        @Test
+        void testUpdateBlog_IfMatch_ReturnsNewETag() throws Exception {
+                BlogPostRequest request = BlogPostRequest.builder().title("title").build();
+                blogPostDTO.setVersion(3L);
+                when(mockScheduleService.updateBlog(1L, request, "\"1-2\"")).thenReturn(blogPostDTO);
+
+                final MockHttpServletResponse response = mockMvc.perform(put("/api/v1/blogs/1")
+                                .header(HttpHeaders.IF_MATCH, "\"1-2\"")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON))
+                                .andReturn().getResponse();
+
+                // Verify the results
+                assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+                assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"1-3\"");
+        }
+
+        @Test
+        void testUpdateBlog_PreconditionFailed() throws Exception {
+                BlogPostRequest request = BlogPostRequest.builder().title("title").build();
+                when(mockScheduleService.updateBlog(1L, request, "\"1-1\""))
+                                .thenThrow(new PreconditionFailedException("Blog Post was modified"));
+
+                final MockHttpServletResponse response = mockMvc.perform(put("/api/v1/blogs/1")
+                                .header(HttpHeaders.IF_MATCH, "\"1-1\"")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON))
+                                .andReturn().getResponse();
+
+                // Verify the results
+                assertThat(response.getStatus()).isEqualTo(HttpStatus.PRECONDITION_FAILED.value());
+                assertThat(response.getContentAsString()).contains("Blog Post was modified");
+        }
+
+        /*
+         * ! ==========> GET /api/v1/blogs/changes <==========
+         */
+        @Test
+        void testStreamChanges_ResumesFromLastEventId() throws Exception {
+                SseEmitter emitter = new SseEmitter();
+                when(blogPostChangeStream.subscribe("1-4")).thenReturn(emitter);
+
+                MvcResult result = mockMvc.perform(get("/api/v1/blogs/changes")
+                                .header(PostConstents.LAST_EVENT_ID, "1-4")
+                                .accept(MediaType.TEXT_EVENT_STREAM))
+                                .andReturn();
+                emitter.send(SseEmitter.event().id("1-5").name("DELETED").data("{\"blog_id\":1}"));
+
+                assertThat(result.getRequest().isAsyncStarted()).isTrue();
+                assertThat(result.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+                assertThat(result.getResponse().getContentAsString())
+                                .isEqualTo("id:1-5\nevent:DELETED\ndata:{\"blog_id\":1}\n\n");
+        }
+
         /*
          * ! ==========> DELETE /api/v1/blogs/{id} <==========
          */
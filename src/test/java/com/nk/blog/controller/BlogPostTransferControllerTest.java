@@ -0,0 +1,78 @@
+package com.nk.blog.controller;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.nk.blog.config.JacksonConfiguration;
+import com.nk.blog.dto.BlogPostBulkResultDTO;
+import com.nk.blog.service.BlogPostTransferService;
+
+@WebMvcTest(BlogPostTransferController.class)
+@Import(JacksonConfiguration.class)
+class BlogPostTransferControllerTest {
+        @Autowired
+        private MockMvc mockMvc;
+
+        @MockBean
+        private BlogPostTransferService mockTransferService;
+
+        /*
+         * ! ==========> GET /api/v1/blogs/export <==========
+         */
+        @Test
+        void testExportBlogs() throws Exception {
+                when(mockTransferService.exportBlogs(any(OutputStream.class))).thenAnswer(invocation -> {
+                        OutputStream outputStream = invocation.getArgument(0);
+                        outputStream.write("{\"blog_id\":1}\n".getBytes(StandardCharsets.UTF_8));
+                        return 1L;
+                });
+
+                final MvcResult result = mockMvc.perform(get("/api/v1/blogs/export")
+                                .accept(MediaType.APPLICATION_NDJSON))
+                                .andReturn();
+                final MockHttpServletResponse response = mockMvc.perform(asyncDispatch(result))
+                                .andReturn().getResponse();
+
+                // Verify the results
+                assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+                assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON_VALUE);
+                assertThat(response.getContentAsString()).isEqualTo("{\"blog_id\":1}\n");
+        }
+
+        /*
+         * ! ==========> POST /api/v1/blogs/import <==========
+         */
+        @Test
+        void testImportBlogs() throws Exception {
+                when(mockTransferService.importBlogs(any(InputStream.class))).thenAnswer(invocation -> {
+                        InputStream inputStream = invocation.getArgument(0);
+                        assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("{}\n{}\n");
+                        return BlogPostBulkResultDTO.builder().created(2).failed(0).results(List.of()).build();
+                });
+
+                final MockHttpServletResponse response = mockMvc.perform(post("/api/v1/blogs/import")
+                                .contentType(MediaType.APPLICATION_NDJSON).content("{}\n{}\n"))
+                                .andReturn().getResponse();
+
+                assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+                assertThat(response.getContentAsString()).contains("\"created\":2");
+        }
+}
@@ -0,0 +1,57 @@
+package com.nk.blog.repo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import com.nk.blog.enums.ContentCodec;
+
+class BlogContentCodecTest {
+
+        private static final String LONG_CONTENT = "A long form blog post paragraph, with ünïcödé and \"quotes\".\n".repeat(200);
+
+        @ParameterizedTest
+        @EnumSource(ContentCodec.class)
+        void testRoundTrip(ContentCodec codec) {
+                BlogContentCodec blogContentCodec = new BlogContentCodec(codec, 16);
+
+                byte[] stored = blogContentCodec.encode(LONG_CONTENT);
+
+                assertEquals(codec.getId(), stored[0]);
+                assertEquals(LONG_CONTENT, blogContentCodec.decode(stored));
+                if (ContentCodec.NONE != codec) {
+                        assertTrue(stored.length < LONG_CONTENT.getBytes(StandardCharsets.UTF_8).length / 4);
+                }
+        }
+
+        @Test
+        void testBelowThreshold_StoredUncompressed() {
+                BlogContentCodec blogContentCodec = new BlogContentCodec(ContentCodec.DEFLATE, 1024);
+
+                byte[] stored = blogContentCodec.encode("short");
+
+                assertEquals(ContentCodec.NONE.getId(), stored[0]);
+                assertEquals("short", blogContentCodec.decode(stored));
+        }
+
+        @Test
+        void testDecode_FollowsStoredCodecNotConfiguredOne() {
+                byte[] gzipped = new BlogContentCodec(ContentCodec.GZIP, 0).encode(LONG_CONTENT);
+
+                assertEquals(LONG_CONTENT, new BlogContentCodec(ContentCodec.NONE, 0).decode(gzipped));
+        }
+
+        @Test
+        void testNullAndInvalid() {
+                BlogContentCodec blogContentCodec = new BlogContentCodec(ContentCodec.DEFLATE, 0);
+
+                assertNull(blogContentCodec.encode(null));
+                assertNull(blogContentCodec.decode(null));
+                assertThrows(IllegalArgumentException.class, () -> blogContentCodec.decode(new byte[0]));
+                assertThrows(IllegalArgumentException.class, () -> blogContentCodec.decode(new byte[] { 9, 1 }));
+        }
+}
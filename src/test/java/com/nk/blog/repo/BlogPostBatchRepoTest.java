@@ -0,0 +1,77 @@
+package com.nk.blog.repo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.nk.blog.constants.Testconstants;
+import com.nk.blog.enums.BlogStatus;
+import com.nk.blog.enums.ContentCodec;
+import com.nk.blog.model.BlogPost;
+
+@DataJpaTest(properties = "blog.bulk.batch-size=2")
+@Import({ BlogContentCodec.class, CompressBlogPostContentMigration.class })
+class BlogPostBatchRepoTest {
+
+        @Autowired
+        private BlogPostRepo blogPostRepo;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Autowired
+        private TestEntityManager entityManager;
+
+        @Test
+        void testBatchInsert_AcrossSeveralBatches_SetsGeneratedIds() {
+                List<BlogPost> blogPosts = new ArrayList<>();
+                for (int i = 0; i < 5; i++) {
+                        blogPosts.add(BlogPost.builder()
+                                        .title("title " + i)
+                                        .description("description")
+                                        .content("content")
+                                        .status(BlogStatus.DRAFT)
+                                        .createdBy(0L)
+                                        .createdAt(Testconstants.DEFAULT_DATETIME)
+                                        .build());
+                }
+
+                blogPostRepo.batchInsert(blogPosts);
+
+                assertEquals(5, blogPostRepo.count());
+                for (BlogPost blogPost : blogPosts) {
+                        assertNotNull(blogPost.getId());
+                        assertEquals(blogPost.getTitle(), blogPostRepo.findById(blogPost.getId()).orElseThrow().getTitle());
+                }
+                assertEquals(List.of("title 1", "title 3"),
+                                blogPostRepo.findExistingTitles(List.of("title 1", "title 3", "missing")).stream().sorted().toList());
+        }
+
+        @Test
+        void testContent_IsCompressedAtRest() {
+                String content = "Long form content that compresses well. ".repeat(100);
+                BlogPost batchInserted = blogPostRepo.batchInsert(List.of(BlogPost.builder()
+                                .title("batch").description("description").content(content)
+                                .status(BlogStatus.DRAFT).build())).get(0);
+                BlogPost saved = blogPostRepo.saveAndFlush(BlogPost.builder()
+                                .title("saved").description("description").content(content)
+                                .status(BlogStatus.DRAFT).build());
+                entityManager.clear();
+
+                for (Long id : List.of(batchInserted.getId(), saved.getId())) {
+                        byte[] stored = jdbcTemplate.queryForObject("select content_data from blog_post where id = ?",
+                                        byte[].class, id);
+                        assertEquals(ContentCodec.DEFLATE.getId(), stored[0]);
+                        assertTrue(stored.length < content.length() / 4);
+                        assertEquals(content, blogPostRepo.findById(id).orElseThrow().getContent());
+                }
+        }
+}
@@ -0,0 +1,148 @@
+package com.nk.blog.repo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.nk.blog.enums.BlogStatus;
+import com.nk.blog.model.BlogPost;
+import com.nk.blog.repo.BlogPostCountRepo.ReconciledRange;
+
+@DataJpaTest
+@Import({ BlogPostCountRepo.class, BlogContentCodec.class, CompressBlogPostContentMigration.class })
+class BlogPostCountRepoTest {
+
+        @Autowired
+        private BlogPostCountRepo blogPostCountRepo;
+
+        @Autowired
+        private BlogPostRepo blogPostRepo;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Test
+        void testIncrement_CreatesAndAdjustsRows() {
+                blogPostCountRepo.increment(1L, BlogStatus.DRAFT, 2);
+                blogPostCountRepo.increment(1L, BlogStatus.PUBLISHED, 1);
+                blogPostCountRepo.increment(2L, BlogStatus.DRAFT, 1);
+                blogPostCountRepo.increment(1L, BlogStatus.DRAFT, -1);
+
+                assertEquals(3, blogPostCountRepo.countAll());
+                assertEquals(2, blogPostCountRepo.countByCreatedBy(1L));
+                assertEquals(1, blogPostCountRepo.countByCreatedBy(2L));
+                assertEquals(0, blogPostCountRepo.countByCreatedBy(3L));
+                assertEquals(2, blogPostCountRepo.countByStatus(null, BlogStatus.DRAFT));
+                assertEquals(1, blogPostCountRepo.countByStatus(1L, BlogStatus.DRAFT));
+                assertEquals(0, blogPostCountRepo.countByStatus(2L, BlogStatus.PUBLISHED));
+        }
+
+        @Test
+        void testReconcile_RecountsFromBlogPost() {
+                for (int i = 0; i < 3; i++) {
+                        blogPostRepo.save(BlogPost.builder().title("title " + i).description("description")
+                                        .content("content").status(i == 0 ? BlogStatus.PUBLISHED : BlogStatus.DRAFT)
+                                        .createdBy(i < 2 ? 1L : null).build());
+                }
+                // drifted, e.g. rows written outside the service
+                blogPostCountRepo.increment(9L, BlogStatus.DRAFT, 5);
+
+                // three missing rows and the drifted one
+                assertEquals(4, reconcile(1000));
+
+                assertEquals(3, blogPostCountRepo.countAll());
+                assertEquals(2, blogPostCountRepo.countByCreatedBy(1L));
+                assertEquals(1, blogPostCountRepo.countByCreatedBy(null));
+                assertEquals(0, blogPostCountRepo.countByCreatedBy(9L));
+        }
+
+        @Test
+        void testDecrementForPost_UsesAuthorAndStatusOfThePost() {
+                BlogPost blogPost = blogPostRepo.saveAndFlush(BlogPost.builder().title("title").description("description")
+                                .content("content").status(BlogStatus.PUBLISHED).createdBy(1L).build());
+                blogPostCountRepo.increment(1L, BlogStatus.PUBLISHED, 1);
+                blogPostCountRepo.increment(1L, BlogStatus.DRAFT, 1);
+
+                assertEquals(1, blogPostCountRepo.decrementForPost(blogPost.getId()));
+                assertEquals(0, blogPostCountRepo.decrementForPost(blogPost.getId() + 1));
+
+                assertEquals(0, blogPostCountRepo.countByStatus(1L, BlogStatus.PUBLISHED));
+                assertEquals(1, blogPostCountRepo.countByStatus(1L, BlogStatus.DRAFT));
+        }
+
+        @Test
+        void testDeletedPosts_AreNotCounted() {
+                blogPostRepo.saveAndFlush(BlogPost.builder().title("live").description("description")
+                                .content("content").status(BlogStatus.DRAFT).createdBy(1L).build());
+                BlogPost deleted = blogPostRepo.saveAndFlush(BlogPost.builder().title("deleted").description("description")
+                                .content("content").status(BlogStatus.DELETED).createdBy(1L).build());
+                blogPostCountRepo.increment(1L, BlogStatus.DELETED, 1);
+
+                assertEquals(0, blogPostCountRepo.countByStatus(1L, BlogStatus.DELETED));
+                assertEquals(0, blogPostCountRepo.decrementForPost(deleted.getId()));
+                reconcile(1000);
+                assertEquals(1, blogPostCountRepo.countAll());
+        }
+
+        @Test
+        void testReconcile_ByAuthorRange_CorrectsOnlyWhatIsOff() {
+                for (long author = 1; author <= 4; author++) {
+                        blogPostRepo.save(BlogPost.builder().title("title " + author).description("description")
+                                        .content("content").status(BlogStatus.DRAFT).createdBy(author).build());
+                        blogPostCountRepo.increment(author, BlogStatus.DRAFT, 1);
+                }
+                blogPostRepo.save(BlogPost.builder().title("no author").description("description")
+                                .content("content").status(BlogStatus.PUBLISHED).build());
+                blogPostCountRepo.increment(3L, BlogStatus.DRAFT, 2);
+                blogPostCountRepo.increment(7L, BlogStatus.PUBLISHED, 1);
+
+                ReconciledRange first = blogPostCountRepo.reconcile(BlogPostCountRepo.BEFORE_FIRST_AUTHOR, 2);
+                assertEquals(2, first.lastAuthor());
+                assertEquals(1, first.corrected());
+                assertEquals(1, blogPostCountRepo.countByCreatedBy(null));
+                assertEquals(3, blogPostCountRepo.countByCreatedBy(3L));
+
+                ReconciledRange second = blogPostCountRepo.reconcile(first.lastAuthor(), 2);
+                assertEquals(4, second.lastAuthor());
+                assertEquals(1, second.corrected());
+                assertEquals(1, blogPostCountRepo.countByCreatedBy(3L));
+
+                ReconciledRange third = blogPostCountRepo.reconcile(second.lastAuthor(), 2);
+                assertTrue(third.isLast());
+                assertEquals(1, third.corrected());
+                assertEquals(0, blogPostCountRepo.countByCreatedBy(7L));
+
+                assertEquals(5, blogPostCountRepo.countAll());
+                assertEquals(0, reconcile(2));
+        }
+
+        @Test
+        void testTotals_ReadStatusIndex() {
+                String byStatus = jdbcTemplate.queryForObject(
+                                "explain select coalesce(sum(post_count), 0) from blog_post_count where status = 'DRAFT'",
+                                String.class);
+                assertTrue(byStatus.contains("IDX_BLOG_POST_COUNT_STATUS: STATUS = 'DRAFT'"), byStatus);
+                String all = jdbcTemplate.queryForObject("explain select coalesce(sum(post_count), 0) from blog_post_count",
+                                String.class);
+                assertTrue(all.contains("IDX_BLOG_POST_COUNT_STATUS"), all);
+        }
+
+        /*
+         * Walks all authors like BlogPostCountReconciler.
+         */
+        private int reconcile(int authors) {
+                int corrected = 0;
+                ReconciledRange range;
+                long after = BlogPostCountRepo.BEFORE_FIRST_AUTHOR;
+                do {
+                        range = blogPostCountRepo.reconcile(after, authors);
+                        corrected += range.corrected();
+                        after = range.lastAuthor();
+                } while (!range.isLast());
+                return corrected;
+        }
+}
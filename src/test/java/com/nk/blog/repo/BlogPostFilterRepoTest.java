@@ -0,0 +1,79 @@
+package com.nk.blog.repo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.nk.blog.enums.BlogStatus;
+import com.nk.blog.model.BlogPost;
+
+@DataJpaTest
+@Import({ BlogContentCodec.class, CompressBlogPostContentMigration.class })
+class BlogPostFilterRepoTest {
+
+        private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        @Autowired
+        private BlogPostRepo blogPostRepo;
+
+        @BeforeEach
+        void setUp() {
+                // day i, author i % 2, every third post published
+                for (int i = 0; i < 6; i++) {
+                        blogPostRepo.save(BlogPost.builder().title("title " + i).description("description " + i)
+                                        .content("content " + i)
+                                        .status(i % 3 == 0 ? BlogStatus.PUBLISHED : BlogStatus.DRAFT)
+                                        .createdBy((long) (i % 2))
+                                        .createdAt(START.plusDays(i))
+                                        .lastUpdatedAt(START.plusDays(i + 1))
+                                        .build());
+                }
+        }
+
+        @Test
+        void testFindAllMatching_StatusFilter_PagedAndSorted() {
+                Specification<BlogPost> published = Specification.where(BlogPostSpecifications.hasStatus(BlogStatus.PUBLISHED));
+
+                List<BlogPost> firstPage = blogPostRepo.findAllMatching(published,
+                                PageRequest.of(0, 1, Sort.by("createdAt").descending()));
+                List<BlogPost> secondPage = blogPostRepo.findAllMatching(published,
+                                PageRequest.of(1, 1, Sort.by("createdAt").descending()));
+
+                assertEquals(List.of("title 3"), firstPage.stream().map(BlogPost::getTitle).toList());
+                assertEquals("content 3", firstPage.get(0).getContent());
+                assertEquals(List.of("title 0"), secondPage.stream().map(BlogPost::getTitle).toList());
+                assertEquals(2, blogPostRepo.count(published));
+        }
+
+        @Test
+        void testFindSummaryMatching_AuthorAndDateRange() {
+                Specification<BlogPost> specification = Specification.where(BlogPostSpecifications.createdBy(1L))
+                                .and(BlogPostSpecifications.createdBetween(START.plusDays(1), START.plusDays(5)));
+
+                List<BlogPostSummary> summaries = blogPostRepo.findSummaryMatching(specification,
+                                PageRequest.of(0, 10, Sort.by("createdAt").ascending()));
+
+                assertEquals(List.of("title 1", "title 3"), summaries.stream().map(BlogPostSummary::getTitle).toList());
+                assertEquals(BlogStatus.PUBLISHED, summaries.get(1).getStatus());
+                assertEquals(START.plusDays(3), summaries.get(1).getCreatedAt());
+                assertEquals(1L, summaries.get(1).getCreatedBy());
+        }
+
+        @Test
+        void testUpdatedBetween_UpperBoundIsExclusive() {
+                Specification<BlogPost> specification = Specification
+                                .where(BlogPostSpecifications.updatedBetween(null, START.plusDays(3)));
+
+                assertEquals(2, blogPostRepo.count(specification));
+        }
+}
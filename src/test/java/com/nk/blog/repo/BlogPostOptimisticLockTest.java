@@ -0,0 +1,102 @@
+package com.nk.blog.repo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import com.nk.blog.enums.BlogStatus;
+import com.nk.blog.model.BlogPost;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+@Import({ BlogContentCodec.class, CompressBlogPostContentMigration.class })
+class BlogPostOptimisticLockTest {
+
+        @Autowired
+        private BlogPostRepo blogPostRepo;
+
+        @Autowired
+        private EntityManager entityManager;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Test
+        void testUpdate_BumpsVersion() {
+                BlogPost blogPost = blogPostRepo.saveAndFlush(newPost());
+                assertEquals(0L, blogPost.getVersion());
+
+                blogPost.setTitle("changed");
+                blogPostRepo.saveAndFlush(blogPost);
+
+                assertEquals(1L, blogPost.getVersion());
+                assertEquals(1L, blogPostRepo.findVersionById(blogPost.getId()).orElseThrow().getVersion());
+        }
+
+        @Test
+        void testUpdate_StaleVersion_IsRejectedByTheUpdate() {
+                BlogPost blogPost = blogPostRepo.saveAndFlush(newPost());
+                // another editor commits in between
+                jdbcTemplate.update("update blog_post set version = version + 1 where id = ?", blogPost.getId());
+
+                blogPost.setTitle("changed");
+
+                assertThrows(ObjectOptimisticLockingFailureException.class, () -> blogPostRepo.saveAndFlush(blogPost));
+                entityManager.clear();
+                assertEquals("title", blogPostRepo.findById(blogPost.getId()).orElseThrow().getTitle());
+        }
+
+        @Test
+        void testUpdatePost_WritesWithoutLoadingAndBumpsVersion() {
+                BlogPost blogPost = blogPostRepo.saveAndFlush(newPost());
+                BlogPost changed = BlogPost.builder().id(blogPost.getId()).title("changed").description("description")
+                                .content("changed content").status(BlogStatus.DRAFT).version(0L).build();
+
+                assertEquals(1, blogPostRepo.updatePost(changed));
+
+                BlogPost stored = blogPostRepo.findById(blogPost.getId()).orElseThrow();
+                assertEquals("changed", stored.getTitle());
+                // the content goes through the same compressing converter as entity writes
+                assertEquals("changed content", stored.getContent());
+                assertEquals(1L, stored.getVersion());
+        }
+
+        @Test
+        void testUpdatePost_StaleVersion_UpdatesNothing() {
+                BlogPost blogPost = blogPostRepo.saveAndFlush(newPost());
+                jdbcTemplate.update("update blog_post set version = version + 1 where id = ?", blogPost.getId());
+
+                assertEquals(0, blogPostRepo.updatePost(BlogPost.builder().id(blogPost.getId()).title("changed")
+                                .description("description").content("content").version(0L).build()));
+                assertEquals("title", blogPostRepo.findById(blogPost.getId()).orElseThrow().getTitle());
+        }
+
+        @Test
+        void testMarkDeleted_HidesThePostAndReturnsAffectedRows() {
+                BlogPost blogPost = blogPostRepo.saveAndFlush(newPost());
+                BlogPost marker = BlogPost.builder().id(blogPost.getId()).lastUpdatedBy(1L)
+                                .lastUpdatedAt(LocalDateTime.now()).build();
+
+                assertEquals(1, blogPostRepo.markDeleted(marker));
+                assertEquals(0, blogPostRepo.markDeleted(marker));
+
+                assertFalse(blogPostRepo.existsById(blogPost.getId()));
+                assertTrue(blogPostRepo.findVersionById(blogPost.getId()).isEmpty());
+                // the row stays until the purge
+                assertEquals("DELETED", jdbcTemplate.queryForObject("select status from blog_post where id = ?",
+                                String.class, blogPost.getId()));
+        }
+
+        private static BlogPost newPost() {
+                return BlogPost.builder().title("title").description("description").content("content")
+                                .status(BlogStatus.DRAFT).build();
+        }
+}
@@ -0,0 +1,52 @@
+package com.nk.blog.repo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.nk.blog.enums.BlogStatus;
+import com.nk.blog.model.BlogPost;
+
+@DataJpaTest
+@Import({ BlogPostPurgeRepo.class, BlogContentCodec.class, CompressBlogPostContentMigration.class })
+class BlogPostPurgeRepoTest {
+
+        private static final LocalDateTime CUTOFF = LocalDateTime.of(2024, 1, 10, 0, 0);
+
+        @Autowired
+        private BlogPostPurgeRepo blogPostPurgeRepo;
+
+        @Autowired
+        private BlogPostRepo blogPostRepo;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Test
+        void testPurgeDeleted_RemovesOnlyExpiredDeletedPostsInBatches() {
+                for (int i = 0; i < 3; i++) {
+                        save("expired " + i, BlogStatus.DELETED, CUTOFF.minusDays(i + 1));
+                }
+                save("recently deleted", BlogStatus.DELETED, CUTOFF.plusDays(1));
+                save("old draft", BlogStatus.DRAFT, CUTOFF.minusDays(5));
+
+                assertEquals(2, blogPostPurgeRepo.purgeDeleted(CUTOFF, 2));
+                assertEquals(1, blogPostPurgeRepo.purgeDeleted(CUTOFF, 2));
+                assertEquals(0, blogPostPurgeRepo.purgeDeleted(CUTOFF, 2));
+
+                assertEquals(2, jdbcTemplate.queryForObject("select count(*) from blog_post", Integer.class));
+                assertEquals(1, jdbcTemplate.queryForObject("select count(*) from blog_post where status = 'DELETED'",
+                                Integer.class));
+        }
+
+        private void save(String title, BlogStatus status, LocalDateTime lastUpdatedAt) {
+                blogPostRepo.saveAndFlush(BlogPost.builder().title(title).description("description").content("content")
+                                .status(status).lastUpdatedAt(lastUpdatedAt).build());
+        }
+}
@@ -0,0 +1,139 @@
+package com.nk.blog.repo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.nk.blog.enums.BlogPostShortBy;
+import com.nk.blog.enums.SortOrder;
+import com.nk.blog.utils.Util;
+
+/**
+ * Runs EXPLAIN on the SQL the repository sends for every supported sort, with
+ * the soft delete and author predicates, and asserts H2 reads the rows in
+ * index order instead of sorting the table.
+ */
+@DataJpaTest
+@Import({ BlogContentCodec.class, CompressBlogPostContentMigration.class,
+                BlogPostSortIndexTest.StatementCapture.class })
+class BlogPostSortIndexTest {
+
+        private static final Long USER_ID = 7L;
+
+        @Autowired
+        private BlogPostRepo blogPostRepo;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Autowired
+        private CapturingInspector inspector;
+
+        @ParameterizedTest
+        @EnumSource(BlogPostShortBy.class)
+        void testListAscending_IsIndexSorted(BlogPostShortBy sortBy) {
+                assertIndexSorted(pageable -> blogPostRepo.findAllBy(pageable), sortBy, SortOrder.ASC);
+                assertIndexSorted(pageable -> blogPostRepo.findSummaryBy(pageable), sortBy, SortOrder.ASC);
+        }
+
+        @ParameterizedTest
+        @EnumSource(BlogPostShortBy.class)
+        void testListDescending_IsIndexSorted(BlogPostShortBy sortBy) {
+                assertIndexSorted(pageable -> blogPostRepo.findAllBy(pageable), sortBy, SortOrder.DESC);
+                assertIndexSorted(pageable -> blogPostRepo.findSummaryBy(pageable), sortBy, SortOrder.DESC);
+        }
+
+        @ParameterizedTest
+        @EnumSource(value = BlogPostShortBy.class, names = { "CREATED_AT", "CREATED_BY", "ID" })
+        void testListByAuthorAscending_IsIndexSorted(BlogPostShortBy sortBy) {
+                assertIndexSorted(byAuthor(), sortBy, SortOrder.ASC, USER_ID);
+        }
+
+        @ParameterizedTest
+        @EnumSource(value = BlogPostShortBy.class, names = { "CREATED_AT", "CREATED_BY", "ID" })
+        void testListByAuthorDescending_IsIndexSorted(BlogPostShortBy sortBy) {
+                assertIndexSorted(byAuthor(), sortBy, SortOrder.DESC, USER_ID);
+        }
+
+        /*
+         * The other sorts of one author only sort the posts of that author, which
+         * are found through a created_by index.
+         */
+        @ParameterizedTest
+        @EnumSource(value = BlogPostShortBy.class, names = { "LAST_UPDATED_AT", "TITLE" })
+        void testListByAuthorOtherSort_ReadsAuthorIndex(BlogPostShortBy sortBy) {
+                for (SortOrder sort : new SortOrder[] { SortOrder.ASC, SortOrder.DESC }) {
+                        String plan = explain(byAuthor(), sortBy, sort, USER_ID);
+                        assertTrue(plan.matches("(?s).*/\\* PUBLIC\\.IDX_BLOG_POST_CREATED_BY_[A-Z_]*: CREATED_BY = \\?1 \\*/.*"),
+                                        () -> "posts of the author are not read through an index:\n" + plan);
+                }
+        }
+
+        private Consumer<Pageable> byAuthor() {
+                return pageable -> blogPostRepo.findAllByCreatedBy(USER_ID, Util.getAuthorPageable(pageable));
+        }
+
+        private void assertIndexSorted(Consumer<Pageable> query, BlogPostShortBy sortBy, SortOrder sort,
+                        Object... predicateValues) {
+                String plan = explain(query, sortBy, sort, predicateValues);
+                assertTrue(plan.contains("/* index sorted */"), () -> "not index sorted:\n" + plan);
+        }
+
+        private String explain(Consumer<Pageable> query, BlogPostShortBy sortBy, SortOrder sort,
+                        Object... predicateValues) {
+                Pageable pageable = Util.getPageable(3, 10, sort.name(), sortBy.getOrderBy());
+                inspector.statements.clear();
+                query.accept(pageable);
+                assertEquals(1, inspector.statements.size(), () -> "expected one statement: " + inspector.statements);
+                String sql = inspector.statements.get(0);
+                assertTrue(sql.contains("DELETED"), () -> "soft delete predicate missing: " + sql);
+
+                List<Object> parameters = new ArrayList<>(List.of(predicateValues));
+                parameters.add(pageable.getOffset());
+                parameters.add(pageable.getPageSize());
+                return jdbcTemplate.queryForObject("explain " + sql, String.class, parameters.toArray());
+        }
+
+        /*
+         * Keeps the SQL hibernate sends, with the pagination it renders for H2.
+         */
+        static class CapturingInspector implements StatementInspector {
+
+                private final List<String> statements = new ArrayList<>();
+
+                @Override
+                public String inspect(String sql) {
+                        statements.add(sql);
+                        return sql;
+                }
+        }
+
+        @TestConfiguration
+        static class StatementCapture {
+
+                @Bean
+                CapturingInspector capturingInspector() {
+                        return new CapturingInspector();
+                }
+
+                @Bean
+                HibernatePropertiesCustomizer statementInspectorCustomizer(CapturingInspector inspector) {
+                        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+                }
+        }
+}
@@ -0,0 +1,56 @@
+package com.nk.blog.repo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.nk.blog.enums.BlogStatus;
+import com.nk.blog.model.BlogPost;
+
+@DataJpaTest
+@Import({ BlogPostViewRepo.class, BlogContentCodec.class, CompressBlogPostContentMigration.class })
+class BlogPostViewRepoTest {
+
+        @Autowired
+        private BlogPostViewRepo blogPostViewRepo;
+
+        @Autowired
+        private BlogPostRepo blogPostRepo;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Test
+        void testAddViews_InsertsThenAccumulates() {
+                Long first = save("first");
+                Long second = save("second");
+
+                blogPostViewRepo.addViews(Map.of(first, 3L));
+                blogPostViewRepo.addViews(Map.of(first, 2L, second, 7L));
+
+                assertEquals(5L, blogPostViewRepo.findViewCount(first));
+                assertEquals(7L, blogPostViewRepo.findViewCount(second));
+                assertEquals(0L, blogPostViewRepo.findViewCount(second + 1));
+        }
+
+        @Test
+        void testPurgedPost_DropsItsViews() {
+                Long id = save("purged");
+                blogPostViewRepo.addViews(Map.of(id, 1L));
+
+                jdbcTemplate.update("delete from blog_post where id = ?", id);
+
+                assertEquals(0L, blogPostViewRepo.findViewCount(id));
+        }
+
+        private Long save(String title) {
+                return blogPostRepo.saveAndFlush(BlogPost.builder().title(title).description("description")
+                                .content("content").status(BlogStatus.PUBLISHED).build()).getId();
+        }
+}
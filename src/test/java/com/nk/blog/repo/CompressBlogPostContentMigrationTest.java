@@ -0,0 +1,69 @@
+package com.nk.blog.repo;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import org.flywaydb.core.api.migration.Context;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nk.blog.enums.ContentCodec;
+
+class CompressBlogPostContentMigrationTest {
+
+        private final BlogContentCodec blogContentCodec = new BlogContentCodec(ContentCodec.DEFLATE, 0);
+
+        private Connection connection;
+
+        @BeforeEach
+        void setUp() throws Exception {
+                connection = DriverManager.getConnection("jdbc:h2:mem:content_migration");
+                try (Statement statement = connection.createStatement()) {
+                        statement.execute("create table blog_post (id bigint primary key, content clob not null, content_data blob)");
+                }
+                try (PreparedStatement insert = connection.prepareStatement("insert into blog_post (id, content) values (?, ?)")) {
+                        for (int id = 1; id <= 5; id++) {
+                                insert.setLong(1, id);
+                                insert.setString(2, "content of post " + id + " ".repeat(id * 100));
+                                insert.addBatch();
+                        }
+                        insert.executeBatch();
+                }
+        }
+
+        @AfterEach
+        void tearDown() throws Exception {
+                connection.close();
+        }
+
+        @Test
+        void testMigrate_ConvertsEveryRowInBatches() throws Exception {
+                // one row already converted by an earlier, interrupted run
+                byte[] alreadyConverted = blogContentCodec.encode("converted before");
+                try (PreparedStatement update = connection.prepareStatement("update blog_post set content_data = ? where id = 3")) {
+                        update.setBytes(1, alreadyConverted);
+                        update.executeUpdate();
+                }
+                Context context = mock(Context.class);
+                when(context.getConnection()).thenReturn(connection);
+
+                new CompressBlogPostContentMigration(blogContentCodec, 2).migrate(context);
+
+                try (Statement statement = connection.createStatement();
+                                ResultSet resultSet = statement.executeQuery("select id, content, content_data from blog_post order by id")) {
+                        while (resultSet.next()) {
+                                byte[] stored = resultSet.getBytes(3);
+                                assertNotNull(stored);
+                                String expected = resultSet.getLong(1) == 3 ? "converted before" : resultSet.getString(2);
+                                assertEquals(expected, blogContentCodec.decode(stored));
+                        }
+                }
+        }
+}
@@ -0,0 +1,116 @@
+package com.nk.blog.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nk.blog.constants.PostConstents;
+import com.nk.blog.dto.BlogPostDTO;
+import com.nk.blog.dto.BlogPostRequest;
+import com.nk.blog.enums.BlogStatus;
+import com.nk.blog.model.BlogPost;
+import com.nk.blog.repo.BlogPostRepo;
+import com.nk.blog.repo.BlogPostSummary;
+
+@SpringBootTest
+class BlogPostServiceCacheTest {
+
+        @Autowired
+        private BlogPostService service;
+
+        @Autowired
+        private CacheManager cacheManager;
+
+        @Autowired
+        private PlatformTransactionManager transactionManager;
+
+        @MockBean
+        private BlogPostRepo blogRepository;
+
+        @BeforeEach
+        void setUp() {
+                cacheManager.getCache(PostConstents.BLOG_POST_BY_ID_CACHE).clear();
+        }
+
+        @Test
+        void testGetBlogById_SecondCall_ServedFromCache() {
+                when(blogRepository.findById(1L)).thenReturn(Optional.of(BlogPost.builder().id(1L).title("title").build()));
+
+                BlogPostDTO first = service.getBlogById(1L);
+                BlogPostDTO second = service.getBlogById(1L);
+
+                assertEquals(first, second);
+                verify(blogRepository, times(1)).findById(1L);
+        }
+
+        @Test
+        void testGetBlogById_ChangingReturnedPost_LeavesCacheUnchanged() {
+                when(blogRepository.findById(1L)).thenReturn(Optional.of(BlogPost.builder().id(1L).title("title").build()));
+
+                BlogPostDTO first = service.getBlogById(1L);
+                first.setTitle("changed");
+                BlogPostDTO second = service.getBlogById(1L);
+                second.setTitle("changed again");
+
+                assertEquals("title", service.getBlogById(1L).getTitle());
+                verify(blogRepository, times(1)).findById(1L);
+        }
+
+        @Test
+        void testUpdateBlog_EvictsCachedPostAfterCommit() {
+                when(blogRepository.findById(1L)).thenReturn(Optional.of(BlogPost.builder().id(1L).title("title").build()));
+                BlogPostSummary summary = mock(BlogPostSummary.class);
+                when(summary.getVersion()).thenReturn(0L);
+                when(blogRepository.findSummaryById(1L)).thenReturn(Optional.of(summary));
+                when(blogRepository.updatePost(any(BlogPost.class))).thenReturn(1);
+                service.getBlogById(1L);
+
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                        service.updateBlog(1L, BlogPostRequest.builder().title("new title").status(BlogStatus.DRAFT).build(),
+                                        null);
+                        // a read before the commit still sees the post the update replaces
+                        assertNotNull(cacheManager.getCache(PostConstents.BLOG_POST_BY_ID_CACHE).get(1L));
+                });
+
+                assertNull(cacheManager.getCache(PostConstents.BLOG_POST_BY_ID_CACHE).get(1L));
+        }
+
+        @Test
+        void testUpdateBlog_EvictsCachedPost() {
+                when(blogRepository.findById(1L)).thenReturn(Optional.of(BlogPost.builder().id(1L).title("title").build()));
+                BlogPostSummary summary = mock(BlogPostSummary.class);
+                when(summary.getVersion()).thenReturn(0L);
+                when(blogRepository.findSummaryById(1L)).thenReturn(Optional.of(summary));
+                when(blogRepository.updatePost(any(BlogPost.class))).thenReturn(1);
+                service.getBlogById(1L);
+
+                service.updateBlog(1L, BlogPostRequest.builder().title("new title").status(BlogStatus.DRAFT).build(), null);
+                service.getBlogById(1L);
+
+                // one read for the first get and one after eviction, the update does not load the post
+                verify(blogRepository, times(2)).findById(1L);
+        }
+
+        @Test
+        void testDeleteBlog_EvictsCachedPost() {
+                when(blogRepository.findById(1L)).thenReturn(Optional.of(BlogPost.builder().id(1L).build()));
+                when(blogRepository.markDeleted(any(BlogPost.class))).thenReturn(1);
+                service.getBlogById(1L);
+
+                service.deleteBlog(1L);
+
+                assertNull(cacheManager.getCache(PostConstents.BLOG_POST_BY_ID_CACHE).get(1L));
+                verify(blogRepository, times(1)).markDeleted(any(BlogPost.class));
+        }
+}
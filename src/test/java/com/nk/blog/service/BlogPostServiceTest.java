@@ -4,38 +4,68 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.ConstraintViolationException.ConstraintKind;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.nk.blog.constants.PostConstents;
 import com.nk.blog.constants.Testconstants;
+import com.nk.blog.dto.BlogPostBulkResultDTO;
 import com.nk.blog.dto.BlogPostDTO;
+import com.nk.blog.dto.BlogPostFilter;
 import com.nk.blog.dto.BlogPostListDTO;
 import com.nk.blog.dto.BlogPostRequest;
+import com.nk.blog.dto.BlogPostSummaryDTO;
+import com.nk.blog.enums.BlogPostChangeType;
 import com.nk.blog.enums.BlogPostShortBy;
+import com.nk.blog.enums.BlogPostView;
 import com.nk.blog.enums.BlogStatus;
+import com.nk.blog.enums.BulkItemStatus;
 import com.nk.blog.enums.SortOrder;
 import com.nk.blog.exception.BadRequestException;
 import com.nk.blog.exception.CustomDataIntegrityViolationException;
 import com.nk.blog.exception.DataConflictException;
 import com.nk.blog.exception.InternalServerException;
 import com.nk.blog.exception.NotFoundException;
+import com.nk.blog.exception.PreconditionFailedException;
 import com.nk.blog.model.BlogPost;
+import com.nk.blog.repo.BlogPostCountRepo;
 import com.nk.blog.repo.BlogPostRepo;
+import com.nk.blog.repo.BlogPostSummary;
+import com.nk.blog.repo.BlogPostVersion;
+import com.nk.blog.service.impl.BlogPostChangeStream;
 import com.nk.blog.service.impl.BlogPostServiceImpl;
+import com.nk.blog.service.impl.BlogSearchIndex;
+import com.nk.blog.service.impl.BlogTitleIndex;
+import com.nk.blog.utils.BlogUtils;
+import com.nk.blog.utils.Util;
+
+import jakarta.persistence.EntityManager;
 
 @ExtendWith(MockitoExtension.class)
 class BlogPostServiceTest {
@@ -45,9 +75,27 @@ class BlogPostServiceTest {
         @Mock
         private BlogPostRepo blogRepository;
 
+        @Mock
+        private BlogPostCountRepo blogPostCountRepo;
+
+        @Mock
+        private BlogPostChangeStream blogPostChangeStream;
+
+        private BlogTitleIndex blogTitleIndex;
+
+        private BlogSearchIndex blogSearchIndex;
+
+        private ConcurrentMapCacheManager cacheManager;
+
         @BeforeEach
         void setUp() {
-                service = new BlogPostServiceImpl(blogRepository);
+                // left unseeded so every title falls back to the repository
+                blogTitleIndex = new BlogTitleIndex(blogRepository, mock(PlatformTransactionManager.class), 1000, 0.01);
+                blogSearchIndex = new BlogSearchIndex(blogRepository, mock(EntityManager.class),
+                                mock(PlatformTransactionManager.class), 256);
+                cacheManager = new ConcurrentMapCacheManager(PostConstents.BLOG_POST_BY_ID_CACHE);
+                service = new BlogPostServiceImpl(blogRepository, blogTitleIndex, blogSearchIndex, blogPostCountRepo,
+                                blogPostChangeStream, cacheManager);
 
         }
 
@@ -65,7 +113,7 @@ class BlogPostServiceTest {
                                 .status(BlogStatus.DRAFT)
                                 .build();
                 // Mock
-                when(blogRepository.findByTitle("Test Title")).thenReturn(Optional.empty());
+                when(blogRepository.existsByTitle("Test Title")).thenReturn(false);
                 when(blogRepository.save(any(BlogPost.class))).thenReturn(BlogPost.builder()
                                 .title("Test Title")
                                 .description("Test Description")
@@ -90,8 +138,10 @@ class BlogPostServiceTest {
                 assertEquals(PostConstents.SYSTEM_USER, result.getCreatedBy());
                 assertEquals(BlogStatus.DRAFT, result.getBlogStatus());
                 // Verify
-                verify(blogRepository, times(1)).findByTitle("Test Title");
+                verify(blogRepository, times(1)).existsByTitle("Test Title");
                 verify(blogRepository, times(1)).save(any(BlogPost.class));
+                verify(blogPostChangeStream, times(1)).publishAfterCommit(eq(BlogPostChangeType.CREATED),
+                                any(BlogPost.class));
                 verifyNoMoreInteractions(blogRepository);
         }
 
@@ -100,9 +150,7 @@ class BlogPostServiceTest {
                 // Arrange
                 BlogPostRequest existingTitleRequest = BlogPostRequest.builder().title("Existing Title")
                                 .content("Existing Content").build();
-                when(blogRepository.findByTitle(anyString())).thenReturn(
-                                Optional.of(BlogPost.builder().title("Existing Title").content("Existing Content")
-                                                .build()));
+                when(blogRepository.existsByTitle(anyString())).thenReturn(true);
 
                 // Act & Assert
                 assertThrows(DataConflictException.class, () -> service.createBlog(existingTitleRequest));
@@ -113,11 +161,131 @@ class BlogPostServiceTest {
                 // Arrange
                 BlogPostRequest validRequest = BlogPostRequest.builder().title("New Title").content("New Content")
                                 .build();
-                when(blogRepository.findByTitle(anyString())).thenReturn(Optional.empty());
+                when(blogRepository.existsByTitle(anyString())).thenReturn(false);
                 when(blogRepository.save(any(BlogPost.class))).thenThrow(DataIntegrityViolationException.class);
 
                 // Act & Assert
                 assertThrows(CustomDataIntegrityViolationException.class, () -> service.createBlog(validRequest));
+                // the reservation is released even when the insert fails
+                assertTrue(blogTitleIndex.tryReserve("New Title"));
+        }
+
+        @Test
+        void testCreateBlog_MissingTitle_ThrowsDataIntegrityViolation() {
+                // Arrange
+                BlogPostRequest request = BlogPostRequest.builder().description("description").content("content").build();
+                when(blogRepository.save(any(BlogPost.class))).thenThrow(DataIntegrityViolationException.class);
+
+                // Act & Assert
+                assertThrows(CustomDataIntegrityViolationException.class, () -> service.createBlog(request));
+        }
+
+        @Test
+        void testCreateBlog_TitleIndexSeeded_SkipsExistenceQuery() {
+                // Arrange
+                when(blogRepository.streamAllTitles()).thenReturn(Stream.of("Existing Title"));
+                blogTitleIndex.rebuild();
+                BlogPostRequest request = BlogPostRequest.builder().title("Brand New Title").content("content").build();
+                when(blogRepository.save(any(BlogPost.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+                // Act
+                service.createBlog(request);
+
+                // Assert
+                verify(blogRepository, never()).existsByTitle(anyString());
+                assertTrue(blogTitleIndex.mightContain("Brand New Title"));
+        }
+
+        @Test
+        void testCreateBlog_TitleCreatedByOtherInstance_ThrowsConflict() {
+                // Arrange
+                when(blogRepository.streamAllTitles()).thenReturn(Stream.empty());
+                blogTitleIndex.rebuild();
+                BlogPostRequest request = BlogPostRequest.builder().title("Other Instance Title").content("content")
+                                .build();
+                when(blogRepository.save(any(BlogPost.class))).thenThrow(new DataIntegrityViolationException("duplicate",
+                                new ConstraintViolationException("duplicate", new SQLException("duplicate", "23505"),
+                                                ConstraintKind.UNIQUE, "UK_BLOG_POST_TITLE")));
+
+                // Act & Assert
+                assertThrows(DataConflictException.class, () -> service.createBlog(request));
+                verify(blogRepository, never()).existsByTitle(anyString());
+        }
+
+        @Test
+        void testCreateBlog_TitleReservedByConcurrentCreate() {
+                // Arrange
+                blogTitleIndex.tryReserve("Test Title");
+                BlogPostRequest request = BlogPostRequest.builder().title("Test Title").content("content").build();
+
+                // Act & Assert
+                assertThrows(DataConflictException.class, () -> service.createBlog(request));
+                verifyNoInteractions(blogRepository);
+        }
+
+        /*
+         * ! ==========> Test for bulkCreateBlogs() <==========
+         */
+        @Test
+        void testBulkCreateBlogs_MixedRequest_ReturnsResultPerItem() {
+                // Arrange
+                BlogPostRequest valid = BlogPostRequest.builder().title("New Title").description("description")
+                                .content("content").build();
+                BlogPostRequest existing = BlogPostRequest.builder().title("Existing Title").description("description")
+                                .content("content").build();
+                BlogPostRequest duplicate = BlogPostRequest.builder().title("New Title").description("description")
+                                .content("content").build();
+                BlogPostRequest blank = BlogPostRequest.builder().title("Blank Content").description("description")
+                                .build();
+                when(blogRepository.findExistingTitles(anyCollection())).thenReturn(List.of("Existing Title"));
+                when(blogRepository.batchInsert(anyList())).thenAnswer(invocation -> {
+                        List<BlogPost> posts = invocation.getArgument(0);
+                        posts.get(0).setId(10L);
+                        return posts;
+                });
+
+                // Act
+                BlogPostBulkResultDTO result = service.bulkCreateBlogs(List.of(valid, existing, duplicate, blank));
+
+                // Assert
+                assertEquals(1, result.getCreated());
+                assertEquals(3, result.getFailed());
+                assertEquals(BulkItemStatus.CREATED, result.getResults().get(0).getStatus());
+                assertEquals(10L, result.getResults().get(0).getId());
+                assertEquals("Blog already exists with this exact title", result.getResults().get(1).getMessage());
+                assertEquals("Blog already exists with this exact title", result.getResults().get(2).getMessage());
+                assertEquals("Blog content cannot be blank", result.getResults().get(3).getMessage());
+                verify(blogRepository, times(1)).findExistingTitles(anyCollection());
+                verify(blogRepository, times(1)).batchInsert(argThat(posts -> posts.size() == 1
+                                && posts.get(0).getCreatedAt() != null));
+                verifyNoMoreInteractions(blogRepository);
+                verify(blogPostChangeStream, times(1)).publishResetAfterCommit();
+                verifyNoMoreInteractions(blogPostChangeStream);
+        }
+
+        @Test
+        void testBulkCreateBlogs_AllInvalid_SkipsInsert() {
+                BlogPostBulkResultDTO result = service.bulkCreateBlogs(
+                                List.of(BlogPostRequest.builder().description("description").content("content").build()));
+
+                assertEquals(0, result.getCreated());
+                assertEquals("Blog title cannot be blank", result.getResults().get(0).getMessage());
+                verifyNoInteractions(blogRepository);
+        }
+
+        @Test
+        void testBulkCreateBlogs_EmptyRequest() {
+                assertThrows(BadRequestException.class, () -> service.bulkCreateBlogs(List.of()));
+        }
+
+        @Test
+        void testBulkCreateBlogs_DataIntegrityViolationException() {
+                when(blogRepository.findExistingTitles(anyCollection())).thenReturn(List.of());
+                when(blogRepository.batchInsert(anyList())).thenThrow(DataIntegrityViolationException.class);
+
+                assertThrows(CustomDataIntegrityViolationException.class, () -> service.bulkCreateBlogs(
+                                List.of(BlogPostRequest.builder().title("title").description("description")
+                                                .content("content").build())));
         }
 
         /*
@@ -147,7 +315,7 @@ class BlogPostServiceTest {
                                 .build();
 
                 // Configure ScheduleRepo.findAll(...).
-                final Page<BlogPost> blogPage = new PageImpl<>(List.of(BlogPost.builder()
+                final List<BlogPost> blogPage = List.of(BlogPost.builder()
                                 .id(0L)
                                 .title("title")
                                 .content("content")
@@ -158,13 +326,14 @@ class BlogPostServiceTest {
                                 .createdAt(Testconstants.DEFAULT_DATETIME)
                                 .lastUpdatedBy(0L)
                                 .lastUpdatedAt(Testconstants.DEFAULT_DATETIME)
-                                .build()));
+                                .build());
                 when(blogRepository.findAllByCreatedBy(anyLong(), any(Pageable.class))).thenReturn(blogPage);
+                when(blogPostCountRepo.countByCreatedBy(anyLong())).thenReturn((long) blogPage.size());
 
                 // Run the test
                 final BlogPostListDTO result = service.getAllBlogsCurrentUser(PostConstents.DEFAULT_PAGE,
                                 PostConstents.DEFAULT_PAGE_SIZE, SortOrder.ASC,
-                                BlogPostShortBy.CREATED_AT);
+                                BlogPostShortBy.CREATED_AT, BlogPostView.FULL, null);
 
                 // Verify the results
                 assertEquals(result, expectedResult);
@@ -185,13 +354,14 @@ class BlogPostServiceTest {
                                 .build();
 
                 // Configure ScheduleRepo.findAll(...).
-                final Page<BlogPost> blogPage = new PageImpl<>(List.of(BlogPost.builder()
-                                .build()));
+                final List<BlogPost> blogPage = List.of(BlogPost.builder()
+                                .build());
                 when(blogRepository.findAllByCreatedBy(anyLong(), any(Pageable.class))).thenReturn(blogPage);
+                when(blogPostCountRepo.countByCreatedBy(anyLong())).thenReturn((long) blogPage.size());
                 // Run the test
                 final BlogPostListDTO result = service.getAllBlogsCurrentUser(0,
                                 PostConstents.DEFAULT_PAGE_SIZE, SortOrder.ASC,
-                                BlogPostShortBy.CREATED_AT);
+                                BlogPostShortBy.CREATED_AT, BlogPostView.FULL, null);
                 // Act & Assert
                 assertEquals(result, expectedResult);
         }
@@ -201,7 +371,7 @@ class BlogPostServiceTest {
                 // Act & Assert
                 assertThrows(BadRequestException.class, () -> service.getAllBlogsCurrentUser(PostConstents.DEFAULT_PAGE,
                                 -1, SortOrder.ASC,
-                                BlogPostShortBy.CREATED_AT));
+                                BlogPostShortBy.CREATED_AT, BlogPostView.FULL, null));
         }
 
         @Test
@@ -209,7 +379,7 @@ class BlogPostServiceTest {
                 // Act & Assert
                 assertThrows(BadRequestException.class, () -> service.getAllBlogsCurrentUser(PostConstents.DEFAULT_PAGE,
                                 PostConstents.DEFAULT_PAGE_SIZE, null,
-                                BlogPostShortBy.CREATED_AT));
+                                BlogPostShortBy.CREATED_AT, BlogPostView.FULL, null));
         }
 
         @Test
@@ -217,15 +387,16 @@ class BlogPostServiceTest {
                 // Act & Assert
                 assertThrows(BadRequestException.class, () -> service.getAllBlogsCurrentUser(PostConstents.DEFAULT_PAGE,
                                 PostConstents.DEFAULT_PAGE_SIZE, SortOrder.DESC,
-                                null));
+                                null, BlogPostView.FULL, null));
         }
 
         @Test
         void testGetAllBlogsCurrentUser_withInvalidPageAndNotMockingRepo() {
+                when(blogPostCountRepo.countByCreatedBy(anyLong())).thenThrow(new QueryTimeoutException("timeout"));
                 // Act & Assert
                 assertThrows(InternalServerException.class, () -> service.getAllBlogsCurrentUser(0,
                                 PostConstents.DEFAULT_PAGE_SIZE, SortOrder.DESC,
-                                BlogPostShortBy.CREATED_AT));
+                                BlogPostShortBy.CREATED_AT, BlogPostView.FULL, null));
         }
 
         @Test
@@ -233,14 +404,15 @@ class BlogPostServiceTest {
                 // Setup
 
                 // Configure ScheduleRepo.findAll(...).
-                final Page<BlogPost> blogPage = new PageImpl<>(List.of(BlogPost.builder()
-                                .build()));
+                final List<BlogPost> blogPage = List.of(BlogPost.builder()
+                                .build());
                 when(blogRepository.findAllByCreatedBy(anyLong(), any(Pageable.class))).thenReturn(blogPage);
+                when(blogPostCountRepo.countByCreatedBy(anyLong())).thenReturn((long) blogPage.size());
                 // Run the test
                 // Act & Assert
                 assertThrows(BadRequestException.class, () -> service.getAllBlogsCurrentUser(2,
                                 PostConstents.DEFAULT_PAGE_SIZE, SortOrder.ASC,
-                                BlogPostShortBy.CREATED_AT), "Invalid page number, number of available pages is 1");
+                                BlogPostShortBy.CREATED_AT, BlogPostView.FULL, null), "Invalid page number, number of available pages is 1");
         }
 
         @SuppressWarnings("unchecked")
@@ -256,12 +428,13 @@ class BlogPostServiceTest {
                                 .build();
 
                 // Configure ScheduleRepo.findAll(...).
-                final Page<BlogPost> blogPage = new PageImpl<>(Collections.EMPTY_LIST);
+                final List<BlogPost> blogPage = Collections.EMPTY_LIST;
                 when(blogRepository.findAllByCreatedBy(anyLong(), any(Pageable.class))).thenReturn(blogPage);
+                when(blogPostCountRepo.countByCreatedBy(anyLong())).thenReturn((long) blogPage.size());
                 // Run the test
                 final BlogPostListDTO result = service.getAllBlogsCurrentUser(0,
                                 PostConstents.DEFAULT_PAGE_SIZE, SortOrder.ASC,
-                                BlogPostShortBy.CREATED_AT);
+                                BlogPostShortBy.CREATED_AT, BlogPostView.FULL, null);
                 // Act & Assert
                 assertEquals(result, expectedResult);
         }
@@ -293,7 +466,7 @@ class BlogPostServiceTest {
                                 .build();
 
                 // Configure ScheduleRepo.findAll(...).
-                final Page<BlogPost> blogPage = new PageImpl<>(List.of(BlogPost.builder()
+                final List<BlogPost> blogPage = List.of(BlogPost.builder()
                                 .id(0L)
                                 .title("title")
                                 .content("content")
@@ -304,18 +477,20 @@ class BlogPostServiceTest {
                                 .createdAt(Testconstants.DEFAULT_DATETIME)
                                 .lastUpdatedBy(0L)
                                 .lastUpdatedAt(Testconstants.DEFAULT_DATETIME)
-                                .build()));
-                when(blogRepository.findAll(any(Pageable.class))).thenReturn(blogPage);
+                                .build());
+                when(blogRepository.findAllBy(any(Pageable.class))).thenReturn(blogPage);
+                when(blogPostCountRepo.countAll()).thenReturn((long) blogPage.size());
 
                 // Run the test
                 final BlogPostListDTO result = service.getAllBlogs(PostConstents.DEFAULT_PAGE,
                                 PostConstents.DEFAULT_PAGE_SIZE, SortOrder.ASC,
-                                BlogPostShortBy.CREATED_AT);
+                                BlogPostShortBy.CREATED_AT, BlogPostView.FULL, null);
 
                 // Verify the results
                 assertEquals(result, expectedResult);
                 // Verify
-                verify(blogRepository, times(1)).findAll(any(Pageable.class));
+                verify(blogRepository, times(1)).findAllBy(any(Pageable.class));
+                verify(blogRepository, never()).count();
         }
 
         @Test
@@ -331,13 +506,14 @@ class BlogPostServiceTest {
                                 .build();
 
                 // Configure ScheduleRepo.findAll(...).
-                final Page<BlogPost> blogPage = new PageImpl<>(List.of(BlogPost.builder()
-                                .build()));
-                when(blogRepository.findAll(any(Pageable.class))).thenReturn(blogPage);
+                final List<BlogPost> blogPage = List.of(BlogPost.builder()
+                                .build());
+                when(blogRepository.findAllBy(any(Pageable.class))).thenReturn(blogPage);
+                when(blogPostCountRepo.countAll()).thenReturn((long) blogPage.size());
                 // Run the test
                 final BlogPostListDTO result = service.getAllBlogs(0,
                                 PostConstents.DEFAULT_PAGE_SIZE, SortOrder.ASC,
-                                BlogPostShortBy.CREATED_AT);
+                                BlogPostShortBy.CREATED_AT, BlogPostView.FULL, null);
                 // Act & Assert
                 assertEquals(result, expectedResult);
         }
@@ -347,7 +523,7 @@ class BlogPostServiceTest {
                 // Act & Assert
                 assertThrows(BadRequestException.class, () -> service.getAllBlogs(PostConstents.DEFAULT_PAGE,
                                 -1, SortOrder.ASC,
-                                BlogPostShortBy.CREATED_AT));
+                                BlogPostShortBy.CREATED_AT, BlogPostView.FULL, null));
         }
 
         @Test
@@ -355,7 +531,7 @@ class BlogPostServiceTest {
                 // Act & Assert
                 assertThrows(BadRequestException.class, () -> service.getAllBlogs(PostConstents.DEFAULT_PAGE,
                                 PostConstents.DEFAULT_PAGE_SIZE, null,
-                                BlogPostShortBy.CREATED_AT));
+                                BlogPostShortBy.CREATED_AT, BlogPostView.FULL, null));
         }
 
         @Test
@@ -363,15 +539,16 @@ class BlogPostServiceTest {
                 // Act & Assert
                 assertThrows(BadRequestException.class, () -> service.getAllBlogs(PostConstents.DEFAULT_PAGE,
                                 PostConstents.DEFAULT_PAGE_SIZE, SortOrder.DESC,
-                                null));
+                                null, BlogPostView.FULL, null));
         }
 
         @Test
         void testGetAllBlogs_withInvalidPageAndNotMockingRepo() {
+                when(blogPostCountRepo.countAll()).thenThrow(new QueryTimeoutException("timeout"));
                 // Act & Assert
                 assertThrows(InternalServerException.class, () -> service.getAllBlogs(0,
                                 PostConstents.DEFAULT_PAGE_SIZE, SortOrder.DESC,
-                                BlogPostShortBy.CREATED_AT));
+                                BlogPostShortBy.CREATED_AT, BlogPostView.FULL, null));
         }
 
         @Test
@@ -379,14 +556,15 @@ class BlogPostServiceTest {
                 // Setup
 
                 // Configure ScheduleRepo.findAll(...).
-                final Page<BlogPost> blogPage = new PageImpl<>(List.of(BlogPost.builder()
-                                .build()));
-                when(blogRepository.findAll(any(Pageable.class))).thenReturn(blogPage);
+                final List<BlogPost> blogPage = List.of(BlogPost.builder()
+                                .build());
+                when(blogRepository.findAllBy(any(Pageable.class))).thenReturn(blogPage);
+                when(blogPostCountRepo.countAll()).thenReturn((long) blogPage.size());
                 // Run the test
                 // Act & Assert
                 assertThrows(BadRequestException.class, () -> service.getAllBlogs(2,
                                 PostConstents.DEFAULT_PAGE_SIZE, SortOrder.ASC,
-                                BlogPostShortBy.CREATED_AT), "Invalid page number, number of available pages is 1");
+                                BlogPostShortBy.CREATED_AT, BlogPostView.FULL, null), "Invalid page number, number of available pages is 1");
         }
 
         @SuppressWarnings("unchecked")
@@ -402,16 +580,326 @@ class BlogPostServiceTest {
                                 .build();
 
                 // Configure ScheduleRepo.findAll(...).
-                final Page<BlogPost> blogPage = new PageImpl<>(Collections.EMPTY_LIST);
-                when(blogRepository.findAll(any(Pageable.class))).thenReturn(blogPage);
+                final List<BlogPost> blogPage = Collections.EMPTY_LIST;
+                when(blogRepository.findAllBy(any(Pageable.class))).thenReturn(blogPage);
+                when(blogPostCountRepo.countAll()).thenReturn((long) blogPage.size());
                 // Run the test
                 final BlogPostListDTO result = service.getAllBlogs(0,
                                 PostConstents.DEFAULT_PAGE_SIZE, SortOrder.ASC,
-                                BlogPostShortBy.CREATED_AT);
+                                BlogPostShortBy.CREATED_AT, BlogPostView.FULL, null);
                 // Act & Assert
                 assertEquals(result, expectedResult);
         }
 
+        @Test
+        void testGetAllBlogs_SummaryView_UsesProjectionWithoutContent() {
+                // Setup
+                BlogPostSummary summary = mock(BlogPostSummary.class);
+                when(summary.getId()).thenReturn(1L);
+                when(summary.getTitle()).thenReturn("title");
+                when(summary.getStatus()).thenReturn(BlogStatus.PUBLISHED);
+                when(blogRepository.findSummaryBy(any(Pageable.class))).thenReturn(List.of(summary));
+                when(blogPostCountRepo.countAll()).thenReturn(1L);
+
+                // Run the test
+                final BlogPostListDTO result = service.getAllBlogs(PostConstents.DEFAULT_PAGE,
+                                PostConstents.DEFAULT_PAGE_SIZE, SortOrder.ASC,
+                                BlogPostShortBy.CREATED_AT, BlogPostView.SUMMARY, null);
+
+                // Verify the results
+                BlogPostSummaryDTO dto = result.getBlogPostList().get(0);
+                assertEquals(1L, dto.getId());
+                assertEquals("title", dto.getTitle());
+                assertEquals(BlogStatus.PUBLISHED, dto.getBlogStatus());
+                assertFalse(result.getBlogPostList().get(0) instanceof BlogPostDTO);
+                assertEquals(1L, result.getTotal());
+                verify(blogRepository, times(1)).findSummaryBy(any(Pageable.class));
+                verifyNoMoreInteractions(blogRepository);
+        }
+
+        @Test
+        void testGetAllBlogsCurrentUser_SummaryView_UsesProjectionWithoutContent() {
+                // Setup
+                BlogPostSummary summary = mock(BlogPostSummary.class);
+                when(summary.getId()).thenReturn(1L);
+                when(blogRepository.findSummaryByCreatedBy(anyLong(), any(Pageable.class)))
+                                .thenReturn(List.of(summary));
+                when(blogPostCountRepo.countByCreatedBy(anyLong())).thenReturn(1L);
+
+                // Run the test
+                final BlogPostListDTO result = service.getAllBlogsCurrentUser(PostConstents.DEFAULT_PAGE,
+                                PostConstents.DEFAULT_PAGE_SIZE, SortOrder.DESC,
+                                BlogPostShortBy.CREATED_AT, BlogPostView.SUMMARY, null);
+
+                // Verify the results
+                assertEquals(1, result.getBlogPostList().size());
+                assertEquals(1L, result.getBlogPostList().get(0).getId());
+                verify(blogRepository, times(1)).findSummaryByCreatedBy(eq(PostConstents.SYSTEM_USER),
+                                any(Pageable.class));
+                verifyNoMoreInteractions(blogRepository);
+        }
+
+        /*
+         * ! ==========> Test for getAllBlogsByCursor() <==========
+         */
+
+        @Test
+        void testGetAllBlogsByCursor_FirstPage_ReturnsNextCursor() {
+                // Setup
+                BlogPost first = BlogPost.builder().id(1L).createdAt(Testconstants.DEFAULT_DATETIME).build();
+                BlogPost second = BlogPost.builder().id(2L).createdAt(Testconstants.DEFAULT_DATETIME).build();
+                BlogPost third = BlogPost.builder().id(3L).createdAt(Testconstants.DEFAULT_DATETIME).build();
+                when(blogRepository.findSeekFirstAsc(any(Pageable.class))).thenReturn(List.of(first, second, third));
+
+                // Run the test
+                final BlogPostListDTO result = service.getAllBlogsByCursor(null, 2, SortOrder.ASC,
+                                BlogPostShortBy.CREATED_AT);
+
+                // Verify the results
+                assertEquals(2, result.getBlogPostList().size());
+                assertEquals(Util.encodeCursor(Testconstants.DEFAULT_DATETIME, 2L), result.getNextCursor());
+                assertNull(result.getTotal());
+                verify(blogRepository, times(1)).findSeekFirstAsc(PageRequest.of(0, 3));
+                verifyNoMoreInteractions(blogRepository);
+        }
+
+        @Test
+        void testGetAllBlogsByCursor_WithCursor_SeeksAfterLastRow() {
+                // Setup
+                String cursor = Util.encodeCursor(Testconstants.DEFAULT_DATETIME, 2L);
+                BlogPost third = BlogPost.builder().id(3L).createdAt(Testconstants.DEFAULT_DATETIME).build();
+                when(blogRepository.findSeekAfterDesc(eq(Testconstants.DEFAULT_DATETIME), eq(2L), any(Pageable.class)))
+                                .thenReturn(List.of(third));
+
+                // Run the test
+                final BlogPostListDTO result = service.getAllBlogsByCursor(cursor, 2, SortOrder.DESC,
+                                BlogPostShortBy.CREATED_AT);
+
+                // Verify the results
+                assertEquals(1, result.getBlogPostList().size());
+                assertNull(result.getNextCursor());
+                assertEquals(SortOrder.DESC, result.getSortOrder());
+        }
+
+        @Test
+        void testGetAllBlogsCurrentUserByCursor_WithCursor_SeeksWithinUser() {
+                // Setup
+                String cursor = Util.encodeCursor(Testconstants.DEFAULT_DATETIME, 2L);
+                when(blogRepository.findSeekAfterByCreatedByAsc(eq(PostConstents.SYSTEM_USER),
+                                eq(Testconstants.DEFAULT_DATETIME), eq(2L), any(Pageable.class)))
+                                .thenReturn(List.of());
+
+                // Run the test
+                final BlogPostListDTO result = service.getAllBlogsCurrentUserByCursor(cursor, null, SortOrder.ASC,
+                                BlogPostShortBy.CREATED_AT);
+
+                // Verify the results
+                assertTrue(result.getBlogPostList().isEmpty());
+                assertNull(result.getNextCursor());
+        }
+
+        @Test
+        void testGetAllBlogsByCursor_withInvalidCursor() {
+                // Act & Assert
+                assertThrows(BadRequestException.class, () -> service.getAllBlogsByCursor("not-a-cursor", 10,
+                                SortOrder.ASC, BlogPostShortBy.CREATED_AT));
+                verifyNoInteractions(blogRepository);
+        }
+
+        @Test
+        void testGetAllBlogsByCursor_withUnsupportedSortBy() {
+                // Act & Assert
+                assertThrows(BadRequestException.class, () -> service.getAllBlogsByCursor(null, 10,
+                                SortOrder.ASC, BlogPostShortBy.CREATED_BY));
+        }
+
+        @Test
+        void testGetAllBlogsByCursor_withInvalidPageSize() {
+                // Act & Assert
+                assertThrows(BadRequestException.class, () -> service.getAllBlogsByCursor(null, 0,
+                                SortOrder.ASC, BlogPostShortBy.CREATED_AT));
+        }
+
+        @Test
+        void testGetAllBlogsByCursor_RepoFailure_ThrowsInternalServerException() {
+                // Setup
+                when(blogRepository.findSeekFirstDesc(any(Pageable.class))).thenThrow(new RuntimeException("db down"));
+
+                // Act & Assert
+                assertThrows(InternalServerException.class, () -> service.getAllBlogsByCursor(null, 10,
+                                SortOrder.DESC, BlogPostShortBy.CREATED_AT));
+        }
+
+        /*
+         * ! ==========> Test for filtered listings <==========
+         */
+
+        @Test
+        void testGetAllBlogs_StatusFilter_CountsFromMaintainedCounts() {
+                // Setup
+                when(blogRepository.findAllMatching(any(), any(Pageable.class)))
+                                .thenReturn(List.of(BlogPost.builder().id(1L).status(BlogStatus.PUBLISHED).build()));
+                when(blogPostCountRepo.countByStatus(null, BlogStatus.PUBLISHED)).thenReturn(11L);
+
+                // Run the test
+                final BlogPostListDTO result = service.getAllBlogs(1, 10, SortOrder.DESC, BlogPostShortBy.CREATED_AT,
+                                BlogPostView.FULL, BlogPostFilter.builder().status(BlogStatus.PUBLISHED).build());
+
+                // Verify the results
+                assertEquals(1, result.getBlogPostList().size());
+                assertEquals(11L, result.getTotal());
+                assertEquals(2, result.getTotalPages());
+                verify(blogRepository, never()).count(ArgumentMatchers.<Specification<BlogPost>>any());
+                verify(blogRepository, never()).findAllBy(any(Pageable.class));
+        }
+
+        @Test
+        void testGetAllBlogsCurrentUser_DateRange_CountsMatchingRows() {
+                // Setup
+                BlogPostSummary summary = mock(BlogPostSummary.class);
+                when(blogRepository.findSummaryMatching(any(), any(Pageable.class))).thenReturn(List.of(summary));
+                when(blogRepository.count(ArgumentMatchers.<Specification<BlogPost>>any())).thenReturn(1L);
+
+                // Run the test
+                final BlogPostListDTO result = service.getAllBlogsCurrentUser(1, 10, SortOrder.ASC,
+                                BlogPostShortBy.CREATED_AT, BlogPostView.SUMMARY, BlogPostFilter.builder()
+                                                .createdFrom(Testconstants.DEFAULT_DATETIME).build());
+
+                // Verify the results
+                assertEquals(1L, result.getTotal());
+                verifyNoInteractions(blogPostCountRepo);
+        }
+
+        @Test
+        void testGetAllBlogs_EmptyRange_ThrowsBadRequest() {
+                // Act & Assert
+                assertThrows(BadRequestException.class, () -> service.getAllBlogs(1, 10, SortOrder.ASC,
+                                BlogPostShortBy.CREATED_AT, BlogPostView.FULL, BlogPostFilter.builder()
+                                                .updatedFrom(Testconstants.DEFAULT_DATETIME)
+                                                .updatedTo(Testconstants.DEFAULT_DATETIME).build()));
+                verifyNoInteractions(blogRepository);
+        }
+
+        @Test
+        void testGetAllBlogs_EmptyFilter_UsesDerivedQueries() {
+                // Setup
+                when(blogRepository.findAllBy(any(Pageable.class))).thenReturn(List.of());
+
+                // Run the test
+                service.getAllBlogs(1, 10, SortOrder.ASC, BlogPostShortBy.CREATED_AT, BlogPostView.FULL,
+                                BlogPostFilter.builder().build());
+
+                // Verify the results
+                verify(blogRepository, never()).findAllMatching(any(), any(Pageable.class));
+                verify(blogPostCountRepo, times(1)).countAll();
+        }
+
+        /*
+         * ! ==========> Test for getAllBlogsBySlice() <==========
+         */
+
+        @Test
+        void testGetAllBlogsBySlice_MoreRows_ReturnsHasNextWithoutCount() {
+                // Setup
+                Pageable pageable = PageRequest.of(0, 2, Sort.by(BlogPostShortBy.CREATED_AT.getOrderBy(), "id").ascending());
+                when(blogRepository.findSliceBy(any(Pageable.class))).thenReturn(new SliceImpl<>(
+                                List.of(BlogPost.builder().id(1L).build(), BlogPost.builder().id(2L).build()), pageable, true));
+
+                // Run the test
+                final BlogPostListDTO result = service.getAllBlogsBySlice(1, 2, SortOrder.ASC,
+                                BlogPostShortBy.CREATED_AT, BlogPostView.FULL);
+
+                // Verify the results
+                assertEquals(2, result.getBlogPostList().size());
+                assertTrue(result.getHasNext());
+                assertNull(result.getTotal());
+                assertNull(result.getTotalPages());
+                verify(blogRepository, times(1)).findSliceBy(pageable);
+                verifyNoMoreInteractions(blogRepository);
+                verifyNoInteractions(blogPostCountRepo);
+        }
+
+        @Test
+        void testGetAllBlogsCurrentUserBySlice_Summary_LastPage() {
+                // Setup
+                BlogPostSummary summary = mock(BlogPostSummary.class);
+                when(summary.getId()).thenReturn(3L);
+                when(blogRepository.findSummarySliceByCreatedBy(eq(PostConstents.SYSTEM_USER), any(Pageable.class)))
+                                .thenReturn(new SliceImpl<>(List.of(summary), PageRequest.of(1, 2), false));
+
+                // Run the test
+                final BlogPostListDTO result = service.getAllBlogsCurrentUserBySlice(2, 2, SortOrder.DESC,
+                                BlogPostShortBy.CREATED_AT, BlogPostView.SUMMARY);
+
+                // Verify the results
+                assertEquals(1, result.getBlogPostList().size());
+                assertFalse(result.getBlogPostList().get(0) instanceof BlogPostDTO);
+                assertFalse(result.getHasNext());
+                verifyNoInteractions(blogPostCountRepo);
+        }
+
+        @Test
+        void testGetAllBlogsBySlice_withInvalidPageSize() {
+                // Act & Assert
+                assertThrows(BadRequestException.class, () -> service.getAllBlogsBySlice(1, 0, SortOrder.ASC,
+                                BlogPostShortBy.CREATED_AT, BlogPostView.FULL));
+                verifyNoInteractions(blogRepository);
+        }
+
+        @Test
+        void testGetAllBlogsBySlice_RepoFailure_ThrowsInternalServerException() {
+                // Setup
+                when(blogRepository.findSliceBy(any(Pageable.class))).thenThrow(new QueryTimeoutException("timeout"));
+
+                // Act & Assert
+                assertThrows(InternalServerException.class, () -> service.getAllBlogsBySlice(1, 10, SortOrder.ASC,
+                                BlogPostShortBy.CREATED_AT, BlogPostView.FULL));
+        }
+
+        /*
+         * ! ==========> Test for searchBlogs() <==========
+         */
+
+        @Test
+        void testSearchBlogs_ReturnsHitsInRankOrder() {
+                // Setup
+                blogSearchIndex.index(1L, "Cooking pasta", "description", "boil water");
+                blogSearchIndex.index(2L, "Java streams", "java java", "streams in java");
+                blogSearchIndex.index(3L, "Java records", "description", "records");
+                BlogPostSummary first = mock(BlogPostSummary.class);
+                when(first.getId()).thenReturn(2L);
+                BlogPostSummary second = mock(BlogPostSummary.class);
+                when(second.getId()).thenReturn(3L);
+                when(blogRepository.findSummaryByIdIn(List.of(2L, 3L))).thenReturn(List.of(second, first));
+
+                // Run the test
+                final BlogPostListDTO result = service.searchBlogs("java", 1, 10);
+
+                // Verify the results
+                assertEquals(2L, result.getTotal());
+                assertEquals(1, result.getTotalPages());
+                assertEquals(List.of(2L, 3L), result.getBlogPostList().stream().map(BlogPostSummaryDTO::getId).toList());
+        }
+
+        @Test
+        void testSearchBlogs_NoHits_SkipsRepository() {
+                final BlogPostListDTO result = service.searchBlogs("nothing", null, null);
+
+                assertTrue(result.getBlogPostList().isEmpty());
+                assertEquals(0L, result.getTotal());
+                verifyNoInteractions(blogRepository);
+        }
+
+        @Test
+        void testSearchBlogs_withBlankQuery() {
+                assertThrows(BadRequestException.class, () -> service.searchBlogs(" ", 1, 10));
+        }
+
+        @Test
+        void testSearchBlogs_withInvalidPageSize() {
+                assertThrows(BadRequestException.class, () -> service.searchBlogs("java", 1, 0));
+        }
+
         /*
          * ! ==========> Test for getBlogById() <==========
          */
@@ -442,6 +930,36 @@ class BlogPostServiceTest {
                 assertTrue(exception.getMessage().contains("Blog Post not found"));
         }
 
+        /*
+         * ! ==========> Test for getBlogVersion() <==========
+         */
+        @Test
+        void testGetBlogVersion_CachedPost_SkipsRepository() {
+                cacheManager.getCache(PostConstents.BLOG_POST_BY_ID_CACHE).put(1L,
+                                BlogPostDTO.builder().id(1L).version(3L).build());
+
+                assertEquals(3L, service.getBlogVersion(1L));
+                verifyNoInteractions(blogRepository);
+        }
+
+        @Test
+        void testGetBlogVersion_CacheMiss_ReadsVersionOnly() {
+                BlogPostVersion version = mock(BlogPostVersion.class);
+                when(version.getVersion()).thenReturn(2L);
+                when(blogRepository.findVersionById(1L)).thenReturn(Optional.of(version));
+
+                assertEquals(2L, service.getBlogVersion(1L));
+                verify(blogRepository, times(1)).findVersionById(1L);
+                verifyNoMoreInteractions(blogRepository);
+        }
+
+        @Test
+        void testGetBlogVersion_WhenBlogPostDoesNotExist_ThenThrowException() {
+                when(blogRepository.findVersionById(1L)).thenReturn(Optional.empty());
+
+                assertThrows(NotFoundException.class, () -> service.getBlogVersion(1L));
+        }
+
         /*
          * ! ==========> Test for updateBlog() <==========
          */
@@ -457,28 +975,12 @@ class BlogPostServiceTest {
                                 .status(BlogStatus.DRAFT)
                                 .build();
                 // Mock
-                when(blogRepository.findById(anyLong())).thenReturn(Optional.of(BlogPost.builder()
-                                .title("Test Title")
-                                .description("Test Description")
-                                .content("Test Content")
-                                .imageUrl("Test Image URL")
-                                .status(BlogStatus.DRAFT)
-                                .id(1L)
-                                .createdAt(LocalDateTime.now())
-                                .createdBy(PostConstents.SYSTEM_USER)
-                                .build()));
-                when(blogRepository.save(any(BlogPost.class))).thenReturn(BlogPost.builder()
-                                .title("Test Title")
-                                .description("Test Description")
-                                .content("Test Content")
-                                .imageUrl("Test Image URL")
-                                .status(BlogStatus.DRAFT)
-                                .id(1L)
-                                .createdAt(LocalDateTime.now())
-                                .createdBy(PostConstents.SYSTEM_USER)
-                                .build());
+                BlogPostSummary current = summary(1L, PostConstents.SYSTEM_USER,
+                                BlogStatus.DRAFT, 0L);
+                when(blogRepository.findSummaryById(1L)).thenReturn(Optional.of(current));
+                when(blogRepository.updatePost(any(BlogPost.class))).thenReturn(1);
                 // Act
-                BlogPostDTO result = service.updateBlog(1L, request);
+                BlogPostDTO result = service.updateBlog(1L, request, null);
 
                 // Assert
                 assertEquals("Test Title", result.getTitle());
@@ -488,47 +990,148 @@ class BlogPostServiceTest {
                 assertEquals(1L, result.getId());
                 assertEquals(BlogStatus.DRAFT, result.getBlogStatus());
                 assertNotNull(result.getCreatedAt());
+                assertNotNull(result.getLastUpdatedAt());
                 assertEquals(PostConstents.SYSTEM_USER, result.getCreatedBy());
-                assertEquals(BlogStatus.DRAFT, result.getBlogStatus());
+                assertEquals(1L, result.getVersion());
                 // Verify
-                verify(blogRepository, times(1)).findById(1L);
-                verify(blogRepository, times(1)).save(any(BlogPost.class));
+                verify(blogRepository, times(1)).findSummaryById(1L);
+                verify(blogRepository, times(1)).updatePost(any(BlogPost.class));
+                verify(blogPostChangeStream, times(1)).publishAfterCommit(eq(BlogPostChangeType.UPDATED),
+                                argThat(post -> 1L == post.getVersion()));
                 verifyNoMoreInteractions(blogRepository);
         }
 
         @Test
         void testUpdateBlog_WithNotFoundException() {
                 // Mock
-                when(blogRepository.findById(anyLong())).thenReturn(Optional.empty());
+                when(blogRepository.findSummaryById(anyLong())).thenReturn(Optional.empty());
                 // Arrange
                 BlogPostRequest existingTitleRequest = BlogPostRequest.builder().id(1L).title("Existing Title")
                                 .content("Existing Content").build();
 
                 // Act & Assert
-                assertThrows(NotFoundException.class, () -> service.updateBlog(1L, existingTitleRequest),
+                assertThrows(NotFoundException.class, () -> service.updateBlog(1L, existingTitleRequest, null),
                                 "Blog Post not found may be unpublished id 1");
                 // Verify
-                verify(blogRepository, times(1)).findById(1L);
+                verify(blogRepository, times(1)).findSummaryById(1L);
                 verifyNoMoreInteractions(blogRepository);
         }
 
+        @Test
+        void testUpdateBlog_StatusDeleted_ThrowsBadRequest() {
+                // Arrange
+                BlogPostRequest request = BlogPostRequest.builder().title("Title").content("content")
+                                .status(BlogStatus.DELETED).build();
+
+                // Act & Assert
+                assertThrows(BadRequestException.class, () -> service.updateBlog(1L, request, null));
+                // Verify
+                verifyNoInteractions(blogRepository, blogPostCountRepo, blogPostChangeStream);
+        }
+
+        @Test
+        void testUpdateBlog_DeletedBeforeUpdate_ThrowsNotFound() {
+                BlogPostSummary current = summary(1L, 7L, BlogStatus.DRAFT, 0L);
+                when(blogRepository.findSummaryById(1L)).thenReturn(Optional.of(current));
+                when(blogRepository.updatePost(any(BlogPost.class))).thenReturn(0);
+                when(blogRepository.existsById(1L)).thenReturn(false);
+                BlogPostRequest request = BlogPostRequest.builder().title("title").status(BlogStatus.PUBLISHED).build();
+
+                assertThrows(NotFoundException.class, () -> service.updateBlog(1L, request, null));
+                verifyNoInteractions(blogPostCountRepo, blogPostChangeStream);
+        }
+
         @Test
         void testUpdateBlog_DataIntegrityViolationException() {
                 // Arrange
                 BlogPostRequest validRequest = BlogPostRequest.builder().title("New Title").content("New Content")
                                 .build();
-                when(blogRepository.findById(anyLong())).thenReturn(Optional.of(BlogPost.builder().build()));
-                when(blogRepository.save(any(BlogPost.class))).thenThrow(DataIntegrityViolationException.class);
+                BlogPostSummary current = summary(1L, 7L, BlogStatus.DRAFT, 0L);
+                when(blogRepository.findSummaryById(anyLong())).thenReturn(Optional.of(current));
+                when(blogRepository.updatePost(any(BlogPost.class))).thenThrow(DataIntegrityViolationException.class);
 
                 // Act & Assert
-                assertThrows(CustomDataIntegrityViolationException.class, () -> service.updateBlog(1L, validRequest));
+                assertThrows(CustomDataIntegrityViolationException.class, () -> service.updateBlog(1L, validRequest, null));
                 // Verify
-                verify(blogRepository, times(1)).findById(1L);
-                verify(blogRepository, times(1)).save(any(BlogPost.class));
+                verify(blogRepository, times(1)).findSummaryById(1L);
+                verify(blogRepository, times(1)).updatePost(any(BlogPost.class));
                 verifyNoMoreInteractions(blogRepository);
 
         }
 
+        @Test
+        void testUpdateBlog_IfMatchCurrent_Updates() {
+                BlogPostSummary current = summary(1L, 7L, BlogStatus.DRAFT, 2L);
+                when(blogRepository.findSummaryById(1L)).thenReturn(Optional.of(current));
+                // the update is conditioned on the version the client saw
+                when(blogRepository.updatePost(argThat(post -> 2L == post.getVersion()))).thenReturn(1);
+
+                BlogPostDTO result = service.updateBlog(1L,
+                                BlogPostRequest.builder().title("title").status(BlogStatus.DRAFT).build(), "\"1-2\"");
+
+                assertEquals(3L, result.getVersion());
+        }
+
+        @Test
+        void testUpdateBlog_IfMatchStale_ThrowsPreconditionFailed() {
+                BlogPostSummary current = summary(1L, 7L, BlogStatus.DRAFT, 2L);
+                when(blogRepository.findSummaryById(1L)).thenReturn(Optional.of(current));
+                BlogPostRequest request = BlogPostRequest.builder().title("title").build();
+
+                assertThrows(PreconditionFailedException.class, () -> service.updateBlog(1L, request, "\"1-1\""));
+                verify(blogRepository, never()).updatePost(any(BlogPost.class));
+                verifyNoInteractions(blogPostCountRepo);
+        }
+
+        @Test
+        void testUpdateBlog_IfMatchWeakTag_ThrowsPreconditionFailed() {
+                BlogPostSummary current = summary(1L, 7L, BlogStatus.DRAFT, 2L);
+                when(blogRepository.findSummaryById(1L)).thenReturn(Optional.of(current));
+                BlogPostRequest request = BlogPostRequest.builder().title("title").build();
+
+                // If-Match uses strong comparison, a weak tag never matches
+                assertThrows(PreconditionFailedException.class, () -> service.updateBlog(1L, request, "W/\"1-2\""));
+                verify(blogRepository, never()).updatePost(any(BlogPost.class));
+        }
+
+        @Test
+        void testUpdateBlog_IfMatchListWithCurrent_Updates() {
+                BlogPostSummary current = summary(1L, 7L, BlogStatus.DRAFT, 2L);
+                when(blogRepository.findSummaryById(1L)).thenReturn(Optional.of(current));
+                when(blogRepository.updatePost(any(BlogPost.class))).thenReturn(1);
+
+                BlogPostDTO result = service.updateBlog(1L,
+                                BlogPostRequest.builder().title("title").status(BlogStatus.DRAFT).build(),
+                                "W/\"1-2\", \"1-2\"");
+
+                assertEquals(3L, result.getVersion());
+        }
+
+        @Test
+        void testUpdateBlog_IfMatchGzipTag_Updates() {
+                BlogPostSummary current = summary(1L, 7L, BlogStatus.DRAFT, 2L);
+                when(blogRepository.findSummaryById(1L)).thenReturn(Optional.of(current));
+                when(blogRepository.updatePost(any(BlogPost.class))).thenReturn(1);
+
+                BlogPostDTO result = service.updateBlog(1L,
+                                BlogPostRequest.builder().title("title").status(BlogStatus.DRAFT).build(),
+                                "\"1-2-gzip\"");
+
+                assertEquals(3L, result.getVersion());
+        }
+
+        @Test
+        void testUpdateBlog_ConcurrentUpdate_ThrowsPreconditionFailed() {
+                BlogPostSummary current = summary(1L, 7L, BlogStatus.DRAFT, 2L);
+                when(blogRepository.findSummaryById(1L)).thenReturn(Optional.of(current));
+                when(blogRepository.updatePost(any(BlogPost.class))).thenReturn(0);
+                when(blogRepository.existsById(1L)).thenReturn(true);
+                BlogPostRequest request = BlogPostRequest.builder().title("title").status(BlogStatus.PUBLISHED).build();
+
+                assertThrows(PreconditionFailedException.class, () -> service.updateBlog(1L, request, null));
+                verifyNoInteractions(blogPostCountRepo);
+        }
+
         /*
          * ! ==========> Test for deleteBlog() <==========
          */
@@ -536,26 +1139,106 @@ class BlogPostServiceTest {
         @Test
         void testDeleteBlog_BlogExists_DeletesSuccessfully() {
                 Long existingBlogId = 1L;
-                BlogPost existingBlog = new BlogPost();
-                existingBlog.setId(existingBlogId);
 
-                when(blogRepository.findById(existingBlogId)).thenReturn(Optional.of(existingBlog));
+                when(blogRepository.markDeleted(any(BlogPost.class))).thenReturn(1);
+
+                blogSearchIndex.index(existingBlogId, "title", "description", "content");
 
                 service.deleteBlog(existingBlogId);
 
-                verify(blogRepository, Mockito.times(1)).delete(existingBlog);
+                ArgumentCaptor<BlogPost> captor = ArgumentCaptor.forClass(BlogPost.class);
+                verify(blogRepository, Mockito.times(1)).markDeleted(captor.capture());
+                assertEquals(existingBlogId, captor.getValue().getId());
+                assertNotNull(captor.getValue().getLastUpdatedAt());
+                assertEquals(0, blogSearchIndex.size());
+                verify(blogPostChangeStream, times(1)).publishAfterCommit(BlogPostChangeType.DELETED,
+                                captor.getValue());
                 verifyNoMoreInteractions(blogRepository);
         }
 
         @Test
-        void testDeleteBlog_BlogDoesNotExist_NoDeletion() {
+        void testDeleteBlog_BlogDoesNotExist_ThrowsNotFound() {
                 Long nonExistingBlogId = 2L;
 
-                when(blogRepository.findById(nonExistingBlogId)).thenReturn(Optional.empty());
+                when(blogRepository.markDeleted(any(BlogPost.class))).thenReturn(0);
 
-                service.deleteBlog(nonExistingBlogId);
+                assertThrows(NotFoundException.class, () -> service.deleteBlog(nonExistingBlogId));
 
-                verify(blogRepository, Mockito.never()).delete(Mockito.any());
+                verify(blogRepository, Mockito.never()).findById(anyLong());
+                verifyNoInteractions(blogPostChangeStream);
                 verifyNoMoreInteractions(blogRepository);
         }
+
+        /*
+         * ! ==========> Test for post counts <==========
+         */
+
+        @Test
+        void testCreateBlog_IncrementsAuthorStatusCount() {
+                when(blogRepository.save(any(BlogPost.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+                service.createBlog(BlogPostRequest.builder().title("counted").description("description")
+                                .content("content").status(BlogStatus.PUBLISHED).build());
+
+                // new posts always start as drafts
+                verify(blogPostCountRepo, times(1)).increment(PostConstents.SYSTEM_USER, BlogStatus.DRAFT, 1);
+        }
+
+        @Test
+        void testUpdateBlog_StatusChange_MovesCount() {
+                BlogPostSummary current = summary(1L, 7L, BlogStatus.DRAFT, 0L);
+                when(blogRepository.findSummaryById(1L)).thenReturn(Optional.of(current));
+                when(blogRepository.updatePost(any(BlogPost.class))).thenReturn(1);
+
+                service.updateBlog(1L, BlogPostRequest.builder().title("title").description("description")
+                                .content("content").status(BlogStatus.PUBLISHED).build(), null);
+
+                verify(blogPostCountRepo, times(1)).increment(7L, BlogStatus.DRAFT, -1);
+                verify(blogPostCountRepo, times(1)).increment(7L, BlogStatus.PUBLISHED, 1);
+        }
+
+        @Test
+        void testUpdateBlog_SameStatus_LeavesCount() {
+                BlogPostSummary current = summary(1L, 7L, BlogStatus.DRAFT, 0L);
+                when(blogRepository.findSummaryById(1L)).thenReturn(Optional.of(current));
+                when(blogRepository.updatePost(any(BlogPost.class))).thenReturn(1);
+
+                service.updateBlog(1L, BlogPostRequest.builder().title("title").description("description")
+                                .content("content").status(BlogStatus.DRAFT).build(), null);
+
+                verifyNoInteractions(blogPostCountRepo);
+        }
+
+        @Test
+        void testDeleteBlog_DecrementsCount() {
+                when(blogRepository.markDeleted(any(BlogPost.class))).thenReturn(1);
+
+                service.deleteBlog(1L);
+
+                verify(blogPostCountRepo, times(1)).decrementForPost(1L);
+        }
+
+        @Test
+        void testBulkCreateBlogs_OneCountUpdatePerAuthorAndStatus() {
+                when(blogRepository.batchInsert(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+                List<BlogPostRequest> requests = List.of(
+                                BlogPostRequest.builder().title("a").description("d").content("c").status(BlogStatus.DRAFT).build(),
+                                BlogPostRequest.builder().title("b").description("d").content("c").status(BlogStatus.DRAFT).build(),
+                                BlogPostRequest.builder().title("c").description("d").content("c").status(BlogStatus.PUBLISHED).build());
+
+                service.bulkCreateBlogs(requests);
+
+                verify(blogPostCountRepo, times(1)).increment(PostConstents.SYSTEM_USER, BlogStatus.DRAFT, 3L);
+                verifyNoMoreInteractions(blogPostCountRepo);
+        }
+
+        private static BlogPostSummary summary(Long id, Long createdBy, BlogStatus status, Long version) {
+                BlogPostSummary summary = mock(BlogPostSummary.class);
+                lenient().when(summary.getId()).thenReturn(id);
+                lenient().when(summary.getCreatedBy()).thenReturn(createdBy);
+                lenient().when(summary.getCreatedAt()).thenReturn(LocalDateTime.now());
+                lenient().when(summary.getStatus()).thenReturn(status);
+                lenient().when(summary.getVersion()).thenReturn(version);
+                return summary;
+        }
 }
@@ -0,0 +1,67 @@
+package com.nk.blog.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.nk.blog.dto.BlogPostDTO;
+import com.nk.blog.dto.BlogPostRequest;
+import com.nk.blog.exception.NotFoundException;
+
+@SpringBootTest
+class BlogPostSoftDeleteTest {
+
+        @Autowired
+        private BlogPostService service;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        private final List<Long> created = new ArrayList<>();
+
+        /*
+         * The posts are committed to the database the other tests share, deleting
+         * the live ones through the service takes them off the counts and the
+         * search index before the rows go.
+         */
+        @AfterEach
+        void tearDown() {
+                for (Long id : created) {
+                        try {
+                                service.deleteBlog(id);
+                        } catch (NotFoundException e) {
+                                // deleted by the test
+                        }
+                        jdbcTemplate.update("delete from blog_post where id = ?", id);
+                }
+                created.clear();
+        }
+
+        @Test
+        void testDeleteThenCreate_SameTitle_IsAccepted() {
+                BlogPostDTO deleted = create("title of a deleted post");
+                service.deleteBlog(deleted.getId());
+
+                BlogPostDTO recreated = create("title of a deleted post");
+
+                assertNotEquals(deleted.getId(), recreated.getId());
+                assertEquals("title of a deleted post", service.getBlogById(recreated.getId()).getTitle());
+                assertThrows(NotFoundException.class, () -> service.getBlogById(deleted.getId()));
+                assertEquals("title of a deleted post", jdbcTemplate.queryForObject(
+                                "select deleted_title from blog_post where id = ?", String.class, deleted.getId()));
+        }
+
+        private BlogPostDTO create(String title) {
+                BlogPostDTO blogPost = service.createBlog(
+                                BlogPostRequest.builder().title(title).description("description").content("content").build());
+                created.add(blogPost.getId());
+                return blogPost;
+        }
+}
@@ -0,0 +1,178 @@
+package com.nk.blog.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nk.blog.config.JacksonConfiguration;
+import com.nk.blog.constants.Testconstants;
+import com.nk.blog.dto.BlogPostBulkItemDTO;
+import com.nk.blog.dto.BlogPostBulkResultDTO;
+import com.nk.blog.dto.BlogPostDTO;
+import com.nk.blog.dto.BlogPostRequest;
+import com.nk.blog.enums.BulkItemStatus;
+import com.nk.blog.exception.CustomDataIntegrityViolationException;
+import com.nk.blog.enums.BlogStatus;
+import com.nk.blog.model.BlogPost;
+import com.nk.blog.repo.BlogPostRepo;
+import com.nk.blog.service.impl.BlogPostTransferServiceImpl;
+
+import jakarta.persistence.EntityManager;
+
+@ExtendWith(MockitoExtension.class)
+class BlogPostTransferServiceTest {
+
+        private BlogPostTransferService service;
+
+        @Mock
+        private BlogPostRepo blogRepository;
+
+        @Mock
+        private BlogPostService blogPostService;
+
+        @Mock
+        private EntityManager entityManager;
+
+        private ObjectMapper objectMapper;
+
+        @BeforeEach
+        void setUp() {
+                objectMapper = new JacksonConfiguration().objectMapper();
+                service = new BlogPostTransferServiceImpl(blogRepository, blogPostService, entityManager, objectMapper, 2);
+        }
+
+        /*
+         * ! ==========> Test for exportBlogs() <==========
+         */
+        @Test
+        void testExportBlogs_WritesOneLinePerPostAndDetaches() throws Exception {
+                // Setup
+                BlogPost first = BlogPost.builder().id(1L).title("first").content("line one\nline two")
+                                .status(BlogStatus.PUBLISHED).createdAt(Testconstants.DEFAULT_DATETIME).build();
+                BlogPost second = BlogPost.builder().id(2L).title("second").content("content")
+                                .status(BlogStatus.DRAFT).build();
+                when(blogRepository.streamAllBy()).thenReturn(Stream.of(first, second));
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+                // Run the test
+                long exported = service.exportBlogs(outputStream);
+
+                // Verify the results
+                String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+                assertEquals(2, exported);
+                assertEquals(2, lines.length);
+                BlogPostDTO firstLine = objectMapper.readValue(lines[0], BlogPostDTO.class);
+                assertEquals("line one\nline two", firstLine.getContent());
+                assertEquals(Testconstants.DEFAULT_DATETIME, firstLine.getCreatedAt());
+                assertEquals(2L, objectMapper.readValue(lines[1], BlogPostDTO.class).getId());
+                verify(entityManager, times(1)).detach(first);
+                verify(entityManager, times(1)).detach(second);
+        }
+
+        @Test
+        void testExportBlogs_EmptyTable_WritesNothing() throws Exception {
+                when(blogRepository.streamAllBy()).thenReturn(Stream.empty());
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+                assertEquals(0, service.exportBlogs(outputStream));
+                assertEquals(0, outputStream.size());
+        }
+
+        /*
+         * ! ==========> Test for importBlogs() <==========
+         */
+        private static ByteArrayInputStream ndjson(String... lines) {
+                return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static String line(String title) {
+                return "{\"blog_title\":\"" + title + "\",\"blog_description\":\"d\",\"blog_content\":\"c\",\"blog_status\":\"DRAFT\"}";
+        }
+
+        private static BlogPostBulkResultDTO allCreated(List<BlogPostRequest> requests) {
+                List<BlogPostBulkItemDTO> results = new ArrayList<>();
+                for (int i = 0; i < requests.size(); i++) {
+                        results.add(BlogPostBulkItemDTO.builder().index(i).id((long) i + 1)
+                                        .status(BulkItemStatus.CREATED).build());
+                }
+                return BlogPostBulkResultDTO.builder().created(requests.size()).failed(0).results(results).build();
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void testImportBlogs_CommitsInBatches() throws Exception {
+                when(blogPostService.bulkCreateBlogs(anyList()))
+                                .thenAnswer(invocation -> allCreated(invocation.getArgument(0)));
+
+                BlogPostBulkResultDTO result = service.importBlogs(ndjson(line("a"), line("b"), "", line("c")));
+
+                ArgumentCaptor<List<BlogPostRequest>> batches = ArgumentCaptor.forClass(List.class);
+                verify(blogPostService, times(2)).bulkCreateBlogs(batches.capture());
+                assertEquals(3, result.getCreated());
+                assertEquals(0, result.getFailed());
+                assertTrue(result.getResults().isEmpty());
+                assertEquals(List.of(2, 1), batches.getAllValues().stream().map(List::size).toList());
+        }
+
+        @Test
+        void testImportBlogs_ReportsFailedLineNumbers() throws Exception {
+                when(blogPostService.bulkCreateBlogs(anyList())).thenAnswer(invocation -> {
+                        List<BlogPostRequest> requests = invocation.getArgument(0);
+                        return BlogPostBulkResultDTO.builder().created(requests.size() - 1).failed(1)
+                                        .results(List.of(BlogPostBulkItemDTO.builder().index(0)
+                                                        .title(requests.get(0).getTitle())
+                                                        .status(BulkItemStatus.FAILED)
+                                                        .message("Blog already exists with this exact title")
+                                                        .build()))
+                                        .build();
+                });
+
+                BlogPostBulkResultDTO result = service.importBlogs(ndjson(line("a"),
+                                "{\"blog_title\":\"x\",\"blog_status\":\"NOPE\"}", line("b"), line("c")));
+
+                assertEquals(1, result.getCreated());
+                assertEquals(3, result.getFailed());
+                assertEquals(List.of(2, 1, 4), result.getResults().stream().map(BlogPostBulkItemDTO::getIndex).toList());
+                assertTrue(result.getResults().get(0).getMessage().startsWith("Invalid blog post"));
+                assertEquals("c", result.getResults().get(2).getTitle());
+        }
+
+        @Test
+        void testImportBlogs_MalformedJson_StopsImport() throws Exception {
+                when(blogPostService.bulkCreateBlogs(anyList()))
+                                .thenAnswer(invocation -> allCreated(invocation.getArgument(0)));
+
+                BlogPostBulkResultDTO result = service.importBlogs(ndjson(line("a"), "{\"blog_title\": oops", line("b")));
+
+                assertEquals(1, result.getCreated());
+                assertEquals(1, result.getFailed());
+                assertEquals(2, result.getResults().get(0).getIndex());
+                assertTrue(result.getResults().get(0).getMessage().startsWith("Malformed JSON"));
+        }
+
+        @Test
+        void testImportBlogs_BatchIntegrityViolation_FailsWholeBatch() throws Exception {
+                when(blogPostService.bulkCreateBlogs(anyList()))
+                                .thenThrow(new CustomDataIntegrityViolationException("constraint violated"));
+
+                BlogPostBulkResultDTO result = service.importBlogs(ndjson(line("a"), line("b")));
+
+                assertEquals(0, result.getCreated());
+                assertEquals(2, result.getFailed());
+                assertEquals(List.of("a", "b"), result.getResults().stream().map(BlogPostBulkItemDTO::getTitle).toList());
+        }
+}
@@ -0,0 +1,243 @@
+package com.nk.blog.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nk.blog.dto.BlogPostChangeDTO;
+import com.nk.blog.enums.BlogPostChangeType;
+import com.nk.blog.model.BlogPost;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BlogPostChangeStreamTest {
+
+        private static final Pattern EVENT_ID = Pattern.compile("id:(\\S+)");
+
+        private SimpleMeterRegistry meterRegistry;
+
+        private BlogPostChangeStream stream;
+
+        @BeforeEach
+        void setUp() {
+                meterRegistry = new SimpleMeterRegistry();
+                stream = new BlogPostChangeStream(new ObjectMapper(), meterRegistry, 3, 2, Duration.ofMinutes(1));
+        }
+
+        @AfterEach
+        void tearDown() {
+                stream.close();
+        }
+
+        @Test
+        void testPublish_ReachesEverySubscriberInOrder() throws InterruptedException {
+                RecordingEmitter first = subscribe(null);
+                RecordingEmitter second = subscribe(null);
+                // the buffer holds two events, let the subscribed comment go out first
+                await(() -> first.text().contains("subscribed") && second.text().contains("subscribed"));
+
+                stream.publish(change(1L, BlogPostChangeType.CREATED));
+                stream.publish(change(1L, BlogPostChangeType.UPDATED));
+
+                for (RecordingEmitter emitter : new RecordingEmitter[] { first, second }) {
+                        await(() -> emitter.text().contains("event:UPDATED"));
+                        String text = emitter.text();
+                        assertTrue(text.startsWith(":subscribed\n\n"));
+                        assertTrue(text.indexOf("event:CREATED") < text.indexOf("event:UPDATED"));
+                        assertTrue(text.contains("data:{\"blog_id\":1,\"change_type\":\"CREATED\"}"));
+                }
+                assertEquals(2, meterRegistry.get(BlogPostChangeStream.SUBSCRIBERS_GAUGE).gauge().value());
+        }
+
+        @Test
+        void testSubscribe_WithLastEventId_ReplaysMissedEventsOnly() throws InterruptedException {
+                RecordingEmitter live = subscribe(null);
+                stream.publish(change(1L, BlogPostChangeType.CREATED));
+                await(() -> live.text().contains("event:CREATED"));
+                String lastEventId = lastEventId(live.text());
+                stream.publish(change(2L, BlogPostChangeType.CREATED));
+                stream.publish(change(1L, BlogPostChangeType.DELETED));
+
+                RecordingEmitter resumed = subscribe(lastEventId);
+
+                await(() -> resumed.text().contains("event:DELETED"));
+                assertFalse(resumed.text().contains("\"blog_id\":1,\"change_type\":\"CREATED\""));
+                assertTrue(resumed.text().contains("\"blog_id\":2,\"change_type\":\"CREATED\""));
+                assertFalse(resumed.text().contains(BlogPostChangeStream.RESET_EVENT));
+        }
+
+        @Test
+        void testSubscribe_MissedMoreThanReplayBuffer_SendsReset() throws InterruptedException {
+                RecordingEmitter live = subscribe(null);
+                stream.publish(change(1L, BlogPostChangeType.CREATED));
+                await(() -> live.text().contains("event:CREATED"));
+                String lastEventId = lastEventId(live.text());
+                for (long id = 2; id <= 5; id++) {
+                        stream.publish(change(id, BlogPostChangeType.CREATED));
+                }
+
+                RecordingEmitter tooOld = subscribe(lastEventId);
+                RecordingEmitter otherInstance = subscribe("1-1");
+
+                await(() -> tooOld.text().contains("event:" + BlogPostChangeStream.RESET_EVENT));
+                await(() -> otherInstance.text().contains("event:" + BlogPostChangeStream.RESET_EVENT));
+                assertFalse(tooOld.text().contains("change_type"));
+        }
+
+        @Test
+        void testSlowSubscriber_IsEvictedWithoutHoldingBackOthers() throws InterruptedException {
+                RecordingEmitter slow = subscribe(null);
+                await(() -> slow.text().contains("subscribed"));
+                slow.block();
+                stream.publish(change(1L, BlogPostChangeType.CREATED));
+                assertTrue(slow.blocked.await(5, TimeUnit.SECONDS));
+                RecordingEmitter fast = subscribe(null);
+
+                for (long id = 2; id <= 5; id++) {
+                        stream.publish(change(id, BlogPostChangeType.CREATED));
+                        String sent = "\"blog_id\":" + id;
+                        await(() -> fast.text().contains(sent));
+                }
+
+                assertEquals(1, stream.getSubscriberCount());
+                assertEquals(1.0, meterRegistry.get(BlogPostChangeStream.EVICTED_COUNTER).counter().count());
+                slow.release.countDown();
+        }
+
+        @Test
+        void testPublishAfterCommit_WaitsForCommitAndSkipsRollback() throws InterruptedException {
+                RecordingEmitter emitter = subscribe(null);
+                BlogPost committed = BlogPost.builder().id(1L).version(2L).build();
+                BlogPost rolledBack = BlogPost.builder().id(2L).build();
+
+                TransactionSynchronizationManager.initSynchronization();
+                try {
+                        stream.publishAfterCommit(BlogPostChangeType.UPDATED, committed);
+                        assertFalse(emitter.text().contains("event:UPDATED"));
+                        TransactionSynchronizationManager.getSynchronizations()
+                                        .forEach(TransactionSynchronization::afterCommit);
+                } finally {
+                        TransactionSynchronizationManager.clearSynchronization();
+                }
+                TransactionSynchronizationManager.initSynchronization();
+                try {
+                        stream.publishAfterCommit(BlogPostChangeType.DELETED, rolledBack);
+                        TransactionSynchronizationManager.getSynchronizations().forEach(
+                                        sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+                } finally {
+                        TransactionSynchronizationManager.clearSynchronization();
+                }
+
+                await(() -> emitter.text().contains("\"blog_version\":2"));
+                assertFalse(emitter.text().contains("event:DELETED"));
+        }
+
+        @Test
+        void testPublishResetAfterCommit_SendsOneEventForTheBatch() throws InterruptedException {
+                RecordingEmitter emitter = subscribe(null);
+                await(() -> emitter.text().contains("subscribed"));
+
+                TransactionSynchronizationManager.initSynchronization();
+                try {
+                        // called once per bulk commit, however many posts it wrote
+                        stream.publishResetAfterCommit();
+                        assertFalse(emitter.text().contains("event:" + BlogPostChangeStream.RESET_EVENT));
+                        TransactionSynchronizationManager.getSynchronizations()
+                                        .forEach(TransactionSynchronization::afterCommit);
+                } finally {
+                        TransactionSynchronizationManager.clearSynchronization();
+                }
+
+                await(() -> emitter.text().contains("event:" + BlogPostChangeStream.RESET_EVENT));
+                String lastEventId = lastEventId(emitter.text());
+                RecordingEmitter resumed = subscribe(lastEventId);
+                stream.publish(change(1L, BlogPostChangeType.CREATED));
+                await(() -> resumed.text().contains("event:CREATED"));
+                assertFalse(resumed.text().contains("event:" + BlogPostChangeStream.RESET_EVENT));
+                assertEquals(2, stream.getSubscriberCount());
+                assertEquals(0.0, meterRegistry.get(BlogPostChangeStream.EVICTED_COUNTER).counter().count());
+        }
+
+        private RecordingEmitter subscribe(String lastEventId) {
+                RecordingEmitter emitter = new RecordingEmitter();
+                stream.subscribe(emitter, lastEventId);
+                return emitter;
+        }
+
+        private static BlogPostChangeDTO change(Long id, BlogPostChangeType type) {
+                return BlogPostChangeDTO.builder().id(id).type(type).build();
+        }
+
+        private static String lastEventId(String text) {
+                Matcher matcher = EVENT_ID.matcher(text);
+                String id = null;
+                while (matcher.find()) {
+                        id = matcher.group(1);
+                }
+                return id;
+        }
+
+        private static void await(BooleanSupplier condition) throws InterruptedException {
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (!condition.getAsBoolean()) {
+                        assertTrue(System.nanoTime() < deadline, "condition not met in time");
+                        Thread.sleep(1);
+                }
+        }
+
+        /*
+         * Keeps what would be written to the response, can be made to hang like a
+         * client that stopped reading.
+         */
+        private static class RecordingEmitter extends SseEmitter {
+
+                private final StringBuilder text = new StringBuilder();
+
+                private final CountDownLatch blocked = new CountDownLatch(1);
+
+                private final CountDownLatch release = new CountDownLatch(1);
+
+                private volatile boolean blocking;
+
+                @Override
+                public void send(Set<DataWithMediaType> items) throws IOException {
+                        try {
+                                if (blocking) {
+                                        blocked.countDown();
+                                        release.await();
+                                }
+                                synchronized (text) {
+                                        items.forEach(item -> text.append(item.getData()));
+                                }
+                        } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                throw new IOException(e);
+                        }
+                }
+
+                void block() {
+                        blocking = true;
+                }
+
+                String text() {
+                        synchronized (text) {
+                                return text.toString();
+                        }
+                }
+        }
+}
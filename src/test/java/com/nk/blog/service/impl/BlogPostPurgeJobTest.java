@@ -0,0 +1,59 @@
+package com.nk.blog.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nk.blog.repo.BlogPostPurgeRepo;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BlogPostPurgeJobTest {
+
+        private BlogPostPurgeRepo blogPostPurgeRepo;
+
+        private SimpleMeterRegistry meterRegistry;
+
+        @BeforeEach
+        void setUp() {
+                blogPostPurgeRepo = mock(BlogPostPurgeRepo.class);
+                meterRegistry = new SimpleMeterRegistry();
+        }
+
+        @Test
+        void testPurgeExpired_StopsOnAShortBatch() {
+                when(blogPostPurgeRepo.purgeDeleted(any(), eq(10))).thenReturn(10, 10, 3);
+
+                assertEquals(23, job(10).purgeExpired());
+
+                verify(blogPostPurgeRepo, times(3)).purgeDeleted(any(), eq(10));
+                assertEquals(23, meterRegistry.counter(BlogPostPurgeJob.ROWS_COUNTER).count());
+                assertEquals(3, meterRegistry.timer(BlogPostPurgeJob.BATCH_TIMER).count());
+        }
+
+        @Test
+        void testPurgeExpired_StopsAtMaxBatches() {
+                when(blogPostPurgeRepo.purgeDeleted(any(), eq(10))).thenReturn(10);
+
+                assertEquals(40, job(4).purgeExpired());
+
+                verify(blogPostPurgeRepo, times(4)).purgeDeleted(any(), eq(10));
+        }
+
+        @Test
+        void testPurge_RepositoryFailure_IsLogged() {
+                when(blogPostPurgeRepo.purgeDeleted(any(), anyInt())).thenThrow(new IllegalStateException("down"));
+
+                assertDoesNotThrow(() -> job(4).purge());
+        }
+
+        private BlogPostPurgeJob job(int maxBatches) {
+                return new BlogPostPurgeJob(blogPostPurgeRepo, meterRegistry, Duration.ofDays(30), 10, Duration.ZERO,
+                                maxBatches);
+        }
+}
@@ -0,0 +1,140 @@
+package com.nk.blog.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nk.blog.repo.BlogPostViewRepo;
+
+class BlogPostViewCounterTest {
+
+        private BlogPostViewRepo blogPostViewRepo;
+
+        private BlogPostViewCounter counter;
+
+        @BeforeEach
+        void setUp() {
+                blogPostViewRepo = mock(BlogPostViewRepo.class);
+                counter = new BlogPostViewCounter(blogPostViewRepo);
+        }
+
+        @Test
+        void testFlush_WritesOneDeltaPerPost() throws InterruptedException {
+                ExecutorService executor = Executors.newFixedThreadPool(8);
+                for (int i = 0; i < 1000; i++) {
+                        executor.execute(() -> counter.record(1L));
+                }
+                counter.record(2L);
+                executor.shutdown();
+                assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+                counter.flush();
+
+                verify(blogPostViewRepo, times(1)).addViews(Map.of(1L, 1000L, 2L, 1L));
+        }
+
+        @Test
+        void testFlush_NothingViewed_SkipsTheWrite() {
+                counter.record(1L);
+                counter.flush();
+                counter.flush();
+
+                verify(blogPostViewRepo, times(1)).addViews(anyMap());
+        }
+
+        @Test
+        void testFlush_IdlePost_RemovesItsAdder() {
+                counter.record(1L);
+                counter.record(2L);
+                counter.flush();
+                counter.record(2L);
+
+                counter.flush();
+
+                assertEquals(1, counter.getPendingCount());
+                counter.flush();
+                assertEquals(0, counter.getPendingCount());
+                counter.record(1L);
+                counter.flush();
+                verify(blogPostViewRepo, times(1)).addViews(Map.of(1L, 1L));
+        }
+
+        @Test
+        void testFlush_Failure_KeepsTheViewsForTheNextFlush() {
+                doThrow(new IllegalStateException("down")).doNothing().when(blogPostViewRepo).addViews(anyMap());
+                counter.record(1L);
+                counter.flush();
+                counter.record(1L);
+
+                counter.flush();
+
+                verify(blogPostViewRepo, times(1)).addViews(Map.of(1L, 1L));
+                verify(blogPostViewRepo, times(1)).addViews(Map.of(1L, 2L));
+        }
+
+        @Test
+        void testFlush_ConcurrentWithRecords_LosesNoViews() throws InterruptedException {
+                AtomicLong flushed = new AtomicLong();
+                doAnswer(invocation -> {
+                        Map<Long, Long> deltas = invocation.getArgument(0);
+                        deltas.values().forEach(flushed::addAndGet);
+                        return null;
+                }).when(blogPostViewRepo).addViews(anyMap());
+                ExecutorService executor = Executors.newFixedThreadPool(8);
+                for (int i = 0; i < 20000; i++) {
+                        long postId = i % 3;
+                        executor.execute(() -> counter.record(postId));
+                        if (0 == i % 500) {
+                                executor.execute(counter::flush);
+                        }
+                }
+                executor.shutdown();
+                assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+                counter.flush();
+
+                assertEquals(20000L, flushed.get());
+        }
+
+        @Test
+        void testFlush_RemovingIdleAdders_LosesNoViews() throws InterruptedException {
+                AtomicLong flushed = new AtomicLong();
+                doAnswer(invocation -> {
+                        Map<Long, Long> deltas = invocation.getArgument(0);
+                        deltas.values().forEach(flushed::addAndGet);
+                        return null;
+                }).when(blogPostViewRepo).addViews(anyMap());
+                ExecutorService executor = Executors.newFixedThreadPool(8);
+                for (int i = 0; i < 20000; i++) {
+                        long postId = i % 50;
+                        executor.execute(() -> counter.record(postId));
+                        executor.execute(counter::flush);
+                }
+                executor.shutdown();
+                assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+                counter.flush();
+                counter.flush();
+
+                assertEquals(20000L, flushed.get());
+                assertEquals(0, counter.getPendingCount());
+        }
+
+        @Test
+        void testGetViewCount_AddsBufferedViews() {
+                when(blogPostViewRepo.findViewCount(1L)).thenReturn(10L);
+                counter.record(1L);
+                counter.record(1L);
+
+                assertEquals(12L, counter.getViewCount(1L));
+        }
+}
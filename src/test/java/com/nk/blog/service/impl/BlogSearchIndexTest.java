@@ -0,0 +1,196 @@
+package com.nk.blog.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.nk.blog.model.BlogPost;
+import com.nk.blog.repo.BlogPostRepo;
+
+import jakarta.persistence.EntityManager;
+
+class BlogSearchIndexTest {
+
+        private BlogPostRepo blogRepository;
+
+        private EntityManager entityManager;
+
+        private BlogSearchIndex blogSearchIndex;
+
+        @BeforeEach
+        void setUp() {
+                blogRepository = mock(BlogPostRepo.class);
+                entityManager = mock(EntityManager.class);
+                blogSearchIndex = new BlogSearchIndex(blogRepository, entityManager, mock(PlatformTransactionManager.class), 256);
+        }
+
+        @Test
+        void testTokenize_LowercasesAndDropsStopWords() {
+                assertEquals(List.of("spring", "boot", "java", "21"),
+                                BlogSearchIndex.tokenize("The Spring-Boot of Java 21!"));
+        }
+
+        @Test
+        void testSearch_TitleMatchOutranksContentMatch() {
+                blogSearchIndex.index(1L, "Gardening", "tips", "kotlin is mentioned once in the content");
+                blogSearchIndex.index(2L, "Kotlin coroutines", "tips", "structured concurrency");
+
+                BlogSearchIndex.SearchHits hits = blogSearchIndex.search("kotlin", 0, 10);
+
+                assertEquals(List.of(2L, 1L), hits.ids());
+                assertEquals(2, hits.total());
+        }
+
+        @Test
+        void testSearch_Pagination() {
+                for (long id = 1; id <= 5; id++) {
+                        blogSearchIndex.index(id, "post " + id, "shared", "x".repeat((int) id));
+                }
+
+                BlogSearchIndex.SearchHits hits = blogSearchIndex.search("shared", 2, 2);
+
+                assertEquals(2, hits.ids().size());
+                assertEquals(5, hits.total());
+                assertTrue(blogSearchIndex.search("shared", 6, 2).ids().isEmpty());
+        }
+
+        @Test
+        void testSearch_SeveralTerms_CountsEachPostOnce() {
+                blogSearchIndex.index(1L, "kotlin coroutines", "tips", "content");
+                blogSearchIndex.index(2L, "kotlin", "tips", "content");
+                blogSearchIndex.index(3L, "coroutines", "tips", "content");
+                blogSearchIndex.index(4L, "gardening", "tips", "content");
+
+                BlogSearchIndex.SearchHits hits = blogSearchIndex.search("kotlin coroutines", 0, 10);
+
+                assertEquals(1L, hits.ids().get(0));
+                assertEquals(3, hits.ids().size());
+                assertEquals(3, hits.total());
+        }
+
+        @Test
+        void testSearch_ZeroLimit_CountsHitsOnly() {
+                blogSearchIndex.index(1L, "kotlin", "tips", "content");
+
+                BlogSearchIndex.SearchHits hits = blogSearchIndex.search("kotlin", 0, 0);
+
+                assertTrue(hits.ids().isEmpty());
+                assertEquals(1, hits.total());
+        }
+
+        @Test
+        void testRemove_UpdatesDocumentFrequencyOfItsTerms() {
+                blogSearchIndex.index(1L, "apple", "apple", "");
+                blogSearchIndex.index(2L, "banana", "filler", "");
+                blogSearchIndex.index(3L, "other", "words", "apple");
+                blogSearchIndex.index(4L, "other", "words", "apple");
+                for (long id = 5; id <= 8; id++) {
+                        blogSearchIndex.index(id, "other", "words", "filler");
+                }
+                assertEquals(List.of(2L, 1L), blogSearchIndex.search("apple banana", 0, 2).ids());
+
+                blogSearchIndex.remove(3L);
+                blogSearchIndex.remove(4L);
+
+                // with apple as rare as banana the post mentioning it more often ranks first
+                assertEquals(List.of(1L, 2L), blogSearchIndex.search("apple banana", 0, 2).ids());
+        }
+
+        @Test
+        void testIndex_Reindex_ReplacesOldTerms() {
+                blogSearchIndex.index(1L, "old title", "description", "content");
+
+                blogSearchIndex.index(1L, "new title", "description", "content");
+
+                assertEquals(0, blogSearchIndex.search("old", 0, 10).total());
+                assertEquals(List.of(1L), blogSearchIndex.search("new", 0, 10).ids());
+                assertEquals(1, blogSearchIndex.size());
+        }
+
+        @Test
+        void testRemove_DropsPostFromResults() {
+                blogSearchIndex.index(1L, "title", "description", "content");
+
+                blogSearchIndex.remove(1L);
+
+                assertEquals(0, blogSearchIndex.search("title", 0, 10).total());
+                assertEquals(0, blogSearchIndex.size());
+        }
+
+        @Test
+        void testIndex_MoreTermsThanMax_KeepsHeaviest() {
+                BlogSearchIndex capped = new BlogSearchIndex(blogRepository, entityManager,
+                                mock(PlatformTransactionManager.class), 4);
+
+                capped.index(1L, "kotlin", "coroutines", "delta alpha gamma beta");
+
+                assertEquals(List.of(1L), capped.search("kotlin", 0, 10).ids());
+                assertEquals(List.of(1L), capped.search("coroutines", 0, 10).ids());
+                // equally weighted content terms are kept in term order
+                assertEquals(List.of(1L), capped.search("alpha", 0, 10).ids());
+                assertEquals(List.of(1L), capped.search("beta", 0, 10).ids());
+                assertEquals(0, capped.search("gamma delta", 0, 10).total());
+        }
+
+        @Test
+        void testRemove_MostPosts_SweepKeepsRestSearchable() {
+                for (long id = 1; id <= 50; id++) {
+                        blogSearchIndex.index(id, "post " + id, "shared", "content");
+                }
+                for (long id = 1; id <= 40; id++) {
+                        blogSearchIndex.remove(id);
+                }
+                blogSearchIndex.index(45L, "renamed", "shared", "content");
+
+                assertEquals(10, blogSearchIndex.size());
+                assertEquals(10, blogSearchIndex.search("shared", 0, 100).total());
+                assertEquals(9, blogSearchIndex.search("post", 0, 100).total());
+                assertEquals(List.of(45L), blogSearchIndex.search("renamed", 0, 10).ids());
+        }
+
+        @Test
+        void testIndexAfterCommit_WaitsForCommitAndSkipsRollback() {
+                BlogPost committed = BlogPost.builder().id(1L).title("committed post").build();
+                BlogPost rolledBack = BlogPost.builder().id(2L).title("rolled back post").build();
+
+                TransactionSynchronizationManager.initSynchronization();
+                try {
+                        blogSearchIndex.indexAfterCommit(committed);
+                        assertEquals(0, blogSearchIndex.size());
+                        TransactionSynchronizationManager.getSynchronizations()
+                                        .forEach(TransactionSynchronization::afterCommit);
+                } finally {
+                        TransactionSynchronizationManager.clearSynchronization();
+                }
+                TransactionSynchronizationManager.initSynchronization();
+                try {
+                        blogSearchIndex.indexAfterCommit(rolledBack);
+                        blogSearchIndex.removeAfterCommit(1L);
+                        TransactionSynchronizationManager.getSynchronizations().forEach(
+                                        sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+                } finally {
+                        TransactionSynchronizationManager.clearSynchronization();
+                }
+
+                assertEquals(List.of(1L), blogSearchIndex.search("post", 0, 10).ids());
+        }
+
+        @Test
+        void testRebuild_IndexesAndDetachesStreamedPosts() {
+                BlogPost blogPost = BlogPost.builder().id(7L).title("streamed post").description("d").content("c").build();
+                when(blogRepository.streamAllBy()).thenReturn(Stream.of(blogPost));
+
+                blogSearchIndex.rebuild();
+
+                assertEquals(List.of(7L), blogSearchIndex.search("streamed", 0, 10).ids());
+                verify(entityManager, times(1)).detach(blogPost);
+        }
+}
@@ -0,0 +1,77 @@
+package com.nk.blog.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.nk.blog.repo.BlogPostRepo;
+
+class BlogTitleIndexTest {
+
+        private BlogPostRepo blogRepository;
+
+        private BlogTitleIndex blogTitleIndex;
+
+        @BeforeEach
+        void setUp() {
+                blogRepository = mock(BlogPostRepo.class);
+                blogTitleIndex = new BlogTitleIndex(blogRepository, mock(PlatformTransactionManager.class), 10_000, 0.01);
+        }
+
+        @Test
+        void testMightContain_BeforeSeeding_AlwaysTrue() {
+                assertTrue(blogTitleIndex.mightContain("anything"));
+        }
+
+        @Test
+        void testMightContain_AfterSeeding_NoFalseNegatives() {
+                List<String> titles = IntStream.range(0, 5_000).mapToObj(i -> "title " + i).toList();
+                when(blogRepository.streamAllTitles()).thenReturn(titles.stream());
+
+                blogTitleIndex.rebuild();
+
+                titles.forEach(title -> assertTrue(blogTitleIndex.mightContain(title), title));
+        }
+
+        @Test
+        void testMightContain_AfterSeeding_FalsePositiveRateIsBounded() {
+                when(blogRepository.streamAllTitles())
+                                .thenReturn(IntStream.range(0, 10_000).mapToObj(i -> "title " + i));
+                blogTitleIndex.rebuild();
+
+                long falsePositives = IntStream.range(0, 10_000)
+                                .filter(i -> blogTitleIndex.mightContain("other " + i))
+                                .count();
+
+                // configured for 1%, leave head room for hash variance
+                assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+        }
+
+        @Test
+        void testAdd_AfterSeeding_TitleIsFound() {
+                when(blogRepository.streamAllTitles()).thenReturn(Stream.empty());
+                blogTitleIndex.rebuild();
+                assertFalse(blogTitleIndex.mightContain("new title"));
+
+                blogTitleIndex.add("new title");
+
+                assertTrue(blogTitleIndex.mightContain("new title"));
+        }
+
+        @Test
+        void testTryReserve_SameTitleTwice_SecondFailsUntilReleased() {
+                assertTrue(blogTitleIndex.tryReserve("title"));
+                assertFalse(blogTitleIndex.tryReserve("title"));
+
+                blogTitleIndex.release("title");
+
+                assertTrue(blogTitleIndex.tryReserve("title"));
+        }
+}